@@ -0,0 +1,15 @@
+package com.akcadag.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@SpringBootApplication
+@EnableScheduling
+public class POS_ReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(POS_ReactiveApplication.class, args);
+	}
+
+}
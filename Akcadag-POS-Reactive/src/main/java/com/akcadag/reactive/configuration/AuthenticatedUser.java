@@ -0,0 +1,44 @@
+package com.akcadag.reactive.configuration;
+
+import com.akcadag.reactive.domain.UserRole;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ *  JwtAuthenticationWebFilter tarafından doğrulanan kullanıcı.
+ * Exchange attribute'u olarak (ATTRIBUTE) controller'lara taşınır.
+ */
+public record AuthenticatedUser(String email, int roleMask, Long storeId, String tokenId, Instant issuedAt) {
+
+    public static final String ATTRIBUTE = "com.akcadag.reactive.AuthenticatedUser";
+
+    private static final int CHAIN_ADMIN_ROLES = RoleAuthorities.bit(UserRole.ROLE_ADMIN)
+            | RoleAuthorities.bit(UserRole.ROLE_SUPER_ADMIN);
+    private static final int STORE_ASSIGNING_ROLES = CHAIN_ADMIN_ROLES | RoleAuthorities.bit(UserRole.ROLE_STORE_ADMIN);
+
+    public List<UserRole> roles() {
+        return RoleAuthorities.rolesOf(roleMask);
+    }
+
+    /**
+     * Servlet uygulamasındaki EMPLOYEE_MANAGE yetkisine sahip roller (kayıtta mağaza atayabilir).
+     */
+    public boolean canAssignStore() {
+        return (roleMask & STORE_ASSIGNING_ROLES) != 0;
+    }
+
+    /**
+     * Servlet uygulamasındaki USER_LIST yetkisine sahip roller (kullanıcı listesi).
+     */
+    public boolean canListUsers() {
+        return (roleMask & STORE_ASSIGNING_ROLES) != 0;
+    }
+
+    /**
+     * Servlet uygulamasındaki SYSTEM_ADMIN yetkisine sahip roller; mağazası yoksa zincir geneli sayılır.
+     */
+    public boolean isChainAdmin() {
+        return (roleMask & CHAIN_ADMIN_ROLES) != 0;
+    }
+}
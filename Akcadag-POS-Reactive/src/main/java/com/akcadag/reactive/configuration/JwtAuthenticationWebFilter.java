@@ -0,0 +1,76 @@
+package com.akcadag.reactive.configuration;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ *  JwtAuthenticationWebFilter
+ * Servlet uygulamasındaki JwtValidator'ın reactive karşılığı.
+ * - Authorization: Bearer <token> varsa token doğrulanır, iptal kontrolü yapılır ve kullanıcı
+ *   AuthenticatedUser olarak exchange'e eklenir. Geçersiz token → 401.
+ * - /api/** ve /auth/users(/**) token olmadan çağrılamaz.
+ */
+@Component
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtService jwtService;
+    private final TokenRevocationIndex revocationIndex;
+
+    public JwtAuthenticationWebFilter(JwtService jwtService, TokenRevocationIndex revocationIndex) {
+        this.jwtService = jwtService;
+        this.revocationIndex = revocationIndex;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (header == null || !header.startsWith(BEARER)) {
+            return requiresAuthentication(exchange) ? unauthorized(exchange) : chain.filter(exchange);
+        }
+
+        return jwtService.verify(header.substring(BEARER.length()))
+                .map(JwtAuthenticationWebFilter::toUser)
+                .filter(user -> !revocationIndex.isRevoked(user))
+                .map(Optional::of)
+                .onErrorResume(JwtException.class, e -> Mono.just(Optional.empty()))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(user -> {
+                    if (user.isEmpty()) {
+                        return unauthorized(exchange);
+                    }
+                    exchange.getAttributes().put(AuthenticatedUser.ATTRIBUTE, user.get());
+                    return chain.filter(exchange);
+                });
+    }
+
+    private static AuthenticatedUser toUser(Claims claims) {
+        Integer roleMask = claims.get(JwtService.CLAIM_ROLES, Integer.class);
+        Number storeId = claims.get(JwtService.CLAIM_STORE, Number.class);
+        Instant issuedAt = TokenIds.issuedAt(claims.getId(), claims.getIssuedAt());
+        return new AuthenticatedUser(claims.getSubject(), roleMask == null ? 0 : roleMask,
+                storeId == null ? null : storeId.longValue(), claims.getId(), issuedAt);
+    }
+
+    private static boolean requiresAuthentication(ServerWebExchange exchange) {
+        String path = exchange.getRequest().getPath().value();
+        return path.startsWith("/api/") || path.equals("/auth/users") || path.startsWith("/auth/users/");
+    }
+
+    private static Mono<Void> unauthorized(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        return exchange.getResponse().setComplete();
+    }
+}
@@ -0,0 +1,172 @@
+package com.akcadag.reactive.configuration;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  JwtService
+ * Servlet uygulamasıyla aynı formatta (ES256, kid header'ı, "sub", "rl", "st", "jti") token üretir ve doğrular.
+ * - Bu node'un imzalama anahtarı açılışta üretilir ve /.well-known/jwks.json üzerinden yayınlanır.
+ * - Diğer node'ların (servlet uygulaması) token'ları jwt.keys.peer-jwks-uris adreslerinden okunan
+ *   public anahtarlarla doğrulanır. Bilinmeyen bir kid geldiğinde anahtarlar WebClient ile
+ *   (event loop'u bloklamadan) yeniden okunur.
+ * İmza doğrulama CPU işidir ve kısa sürer, event loop üzerinde yapılır.
+ */
+@Slf4j
+@Component
+public class JwtService {
+
+    public static final String CLAIM_ROLES = "rl";
+    // Mağaza id'si; zincir geneli kullanıcılarda yazılmaz
+    public static final String CLAIM_STORE = "st";
+
+    private static final Duration PEER_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    private final SignatureAlgorithm algorithm = Jwts.SIG.ES256;
+    private final KeyPair keyPair;
+    private final String kid;
+    private final String jwksJson;
+    private final Duration accessTokenTtl;
+    private final List<String> peerJwksUris;
+    private final WebClient webClient;
+    private final JwtParser parser;
+
+    // kid → PublicKey (bu node + diğer node'lar); her yenilemede değiştirilemez yeni map
+    private volatile Map<String, PublicKey> verificationKeys;
+    private final AtomicLong lastPeerRefresh = new AtomicLong();
+
+    public JwtService(@Value("${jwt.access-token.ttl:15m}") Duration accessTokenTtl,
+                      @Value("${jwt.keys.peer-jwks-uris:}") List<String> peerJwksUris,
+                      WebClient.Builder webClientBuilder) {
+        this.accessTokenTtl = accessTokenTtl;
+        this.peerJwksUris = peerJwksUris.stream().filter(uri -> !uri.isBlank()).toList();
+        this.webClient = webClientBuilder.build();
+
+        this.keyPair = algorithm.keyPair().build();
+        PublicJwk<?> jwk = Jwks.builder()
+                .key(keyPair.getPublic())
+                .idFromThumbprint()
+                .algorithm(algorithm.getId())
+                .build();
+        this.kid = jwk.getId();
+        this.jwksJson = "{\"keys\":[" + Jwks.json(jwk) + "]}";
+        this.verificationKeys = Map.of(kid, keyPair.getPublic());
+
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        PublicKey key = header.getKeyId() == null ? null : verificationKeys.get(header.getKeyId());
+                        if (key == null) {
+                            throw new UnknownKeyException(header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Access token üretir.
+     */
+    public String generateToken(String email, int roleMask, Long storeId) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .id(TokenIds.newId(now).toString()) // Üretilme zamanını ms olarak taşır (kullanıcı bazlı iptal)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + accessTokenTtl.toMillis()))
+                .subject(email)
+                .claim(CLAIM_ROLES, roleMask)
+                .claim(CLAIM_STORE, storeId)
+                .signWith(keyPair.getPrivate(), algorithm)
+                .compact();
+    }
+
+    /**
+     * Token'ı doğrular. kid bilinmiyorsa önce diğer node'ların JWKS'i okunur.
+     * Geçersiz token JwtException ile hata olarak döner.
+     */
+    public Mono<Claims> verify(String jwt) {
+        return Mono.fromCallable(() -> parse(jwt))
+                .onErrorResume(UnknownKeyException.class, e -> refreshPeers()
+                        .then(Mono.fromCallable(() -> parse(jwt))));
+    }
+
+    public String jwksJson() {
+        return jwksJson;
+    }
+
+    private Claims parse(String jwt) {
+        return parser.parseSignedClaims(jwt).getPayload();
+    }
+
+    /**
+     * Diğer node'ların JWKS adreslerinden anahtarları okur (en fazla 30 saniyede bir).
+     */
+    private Mono<Void> refreshPeers() {
+        long now = System.currentTimeMillis();
+        long last = lastPeerRefresh.get();
+        if (peerJwksUris.isEmpty()
+                || now - last < PEER_REFRESH_INTERVAL.toMillis()
+                || !lastPeerRefresh.compareAndSet(last, now)) {
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(peerJwksUris)
+                .flatMap(uri -> webClient.get().uri(uri).retrieve().bodyToMono(String.class)
+                        .onErrorResume(e -> {
+                            log.warn("Could not read JWKS from {}", uri, e);
+                            return Mono.empty();
+                        }))
+                .collectList()
+                .doOnNext(documents -> {
+                    Map<String, PublicKey> keys = new HashMap<>();
+                    for (String json : documents) {
+                        JwkSet jwkSet = Jwks.setParser().build().parse(json);
+                        for (Jwk<?> jwk : jwkSet) {
+                            if (jwk.getId() != null && jwk.toKey() instanceof PublicKey publicKey) {
+                                keys.put(jwk.getId(), publicKey);
+                            }
+                        }
+                    }
+                    keys.put(kid, keyPair.getPublic());
+                    verificationKeys = Map.copyOf(keys);
+                })
+                .then();
+    }
+
+    /**
+     * Token'ın kid'i bu node'da ve bilinen node'larda yok.
+     */
+    static class UnknownKeyException extends JwtException {
+        UnknownKeyException(String kid) {
+            super("Unknown signing key: " + kid);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.akcadag.reactive.configuration;
+
+import com.akcadag.reactive.exceptions.ServiceBusyException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ *  PasswordHashingScheduler
+ * BCrypt işlemleri event loop'u bloklamasın diye sınırlı bir scheduler'da çalışır
+ * (thread sayısı ve kuyruk sınırlı). Kuyruk doluysa istek hemen 503 ile geri çevrilir.
+ */
+@Component
+public class PasswordHashingScheduler implements DisposableBean {
+
+    private final Scheduler scheduler;
+
+    public PasswordHashingScheduler(@Value("${auth.hashing.pool-size:0}") int poolSize,
+                                    @Value("${auth.hashing.queue-capacity:200}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.scheduler = Schedulers.newBoundedElastic(threads, queueCapacity, "bcrypt-worker");
+    }
+
+    /**
+     * Verilen işi hashing scheduler'ında çalıştırır.
+     */
+    public <T> Mono<T> execute(Callable<T> task) {
+        return Mono.fromCallable(task)
+                .subscribeOn(scheduler)
+                .onErrorMap(RejectedExecutionException.class,
+                        e -> new ServiceBusyException("Server is busy, please try again", 1));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
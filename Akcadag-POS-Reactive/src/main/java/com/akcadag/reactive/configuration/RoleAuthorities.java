@@ -0,0 +1,44 @@
+package com.akcadag.reactive.configuration;
+
+import com.akcadag.reactive.domain.UserRole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  JWT "rl" claim'i: her UserRole bir bit'tir (ordinal). Servlet uygulamasındaki RoleAuthorities ile aynı format.
+ * Tüm kombinasyonlar için rol listeleri açılışta hazırlanır.
+ */
+public final class RoleAuthorities {
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final List<List<UserRole>> BY_MASK;
+
+    static {
+        List<List<UserRole>> lists = new ArrayList<>(1 << ROLES.length);
+        for (int mask = 0; mask < 1 << ROLES.length; mask++) {
+            List<UserRole> roles = new ArrayList<>();
+            for (UserRole role : ROLES) {
+                if ((mask & bit(role)) != 0) {
+                    roles.add(role);
+                }
+            }
+            lists.add(List.copyOf(roles));
+        }
+        BY_MASK = List.copyOf(lists);
+    }
+
+    private RoleAuthorities() {
+    }
+
+    public static int bit(UserRole role) {
+        return 1 << role.ordinal();
+    }
+
+    public static List<UserRole> rolesOf(int mask) {
+        if (mask < 0 || mask >= BY_MASK.size()) {
+            throw new IllegalArgumentException("Invalid role mask: " + mask);
+        }
+        return BY_MASK.get(mask);
+    }
+}
@@ -0,0 +1,47 @@
+package com.akcadag.reactive.configuration;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *  TokenIds
+ * Access token jti'leri zaman sıralı UUID (RFC 9562, sürüm 7) olarak üretilir: ilk 48 bit üretilme
+ * zamanıdır (epoch milisaniye). iat claim'i saniye hassasiyetinde olduğu için kullanıcı bazlı iptal
+ * (TokenRevocationIndex, JwtAuthenticationWebFilter) üretilme zamanını jti'den milisaniye hassasiyetinde okur.
+ * Servlet node'daki aynı isimli sınıfla aynı formatı üretir ve okur.
+ */
+public final class TokenIds {
+
+    private TokenIds() {
+    }
+
+    /**
+     * nowMillis anında üretilen token için yeni jti.
+     */
+    public static UUID newId(long nowMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (nowMillis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Token'ın üretilme zamanı: jti sürüm 7 UUID ise milisaniye hassasiyetinde oradan, değilse (eski token'lar)
+     * iat'tan okunur. İkisi de yoksa token her kullanıcı bazlı iptalden önce üretilmiş sayılır.
+     */
+    public static Instant issuedAt(String tokenId, Date issuedAt) {
+        if (tokenId != null && tokenId.length() == 36) {
+            try {
+                UUID uuid = UUID.fromString(tokenId);
+                if (uuid.version() == 7) {
+                    return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+                }
+            } catch (IllegalArgumentException e) {
+                // UUID olmayan jti → iat kullanılır
+            }
+        }
+        return issuedAt != null ? issuedAt.toInstant() : Instant.EPOCH;
+    }
+}
@@ -0,0 +1,90 @@
+package com.akcadag.reactive.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  TokenRevocationIndex
+ * Servlet uygulamasının token_revocations tablosuna yazdığı iptaller (logout, zorla çıkış)
+ * periyodik olarak okunur ve bellekte tutulur; her istekte O(1) kontrol yapılır.
+ */
+@Slf4j
+@Component
+public class TokenRevocationIndex {
+
+    private static final String SELECT_ACTIVE =
+            "select jti, email, issued_before, expires_at from token_revocations " +
+            "where created_at > :since and expires_at > :now";
+    // Eş zamanlı transaction'larda createdAt sırası commit sırası olmayabilir, pencere biraz geriden okunur
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private record Cutoff(Instant issuedBefore, Instant expiresAt) {
+    }
+
+    private final DatabaseClient databaseClient;
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Cutoff> userCutoffs = new ConcurrentHashMap<>();
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenRevocationIndex(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public boolean isRevoked(AuthenticatedUser user) {
+        if (user.tokenId() != null && revokedTokens.containsKey(user.tokenId())) {
+            return true;
+        }
+        if (userCutoffs.isEmpty()) {
+            return false;
+        }
+        Cutoff cutoff = userCutoffs.get(user.email());
+        return cutoff != null && user.issuedAt().isBefore(cutoff.issuedBefore());
+    }
+
+    /**
+     * Yeni iptalleri okur ve süresi dolanları siler.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public Mono<Void> sync() {
+        Instant now = Instant.now();
+        Instant since = lastSync.equals(Instant.EPOCH) ? Instant.EPOCH : lastSync.minus(SYNC_OVERLAP);
+        return databaseClient.sql(SELECT_ACTIVE)
+                .bind("since", OffsetDateTime.ofInstant(since, ZoneOffset.UTC))
+                .bind("now", OffsetDateTime.ofInstant(now, ZoneOffset.UTC))
+                .map(row -> {
+                    Instant expiresAt = row.get("expires_at", OffsetDateTime.class).toInstant();
+                    String jti = row.get("jti", String.class);
+                    String email = row.get("email", String.class);
+                    OffsetDateTime issuedBefore = row.get("issued_before", OffsetDateTime.class);
+                    if (jti != null) {
+                        revokedTokens.merge(jti, expiresAt, (old, next) -> next.isAfter(old) ? next : old);
+                    }
+                    if (email != null && issuedBefore != null) {
+                        userCutoffs.merge(email, new Cutoff(issuedBefore.toInstant(), expiresAt),
+                                (old, next) -> next.issuedBefore().isAfter(old.issuedBefore()) ? next : old);
+                    }
+                    return expiresAt;
+                })
+                .all()
+                .then(Mono.fromRunnable(() -> {
+                    lastSync = now;
+                    revokedTokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+                    userCutoffs.values().removeIf(cutoff -> cutoff.expiresAt().isBefore(now));
+                }))
+                .onErrorResume(e -> {
+                    log.warn("Could not sync token revocations", e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
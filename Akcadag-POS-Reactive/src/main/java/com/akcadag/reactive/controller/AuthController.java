@@ -0,0 +1,93 @@
+package com.akcadag.reactive.controller;
+
+import com.akcadag.reactive.configuration.AuthenticatedUser;
+import com.akcadag.reactive.domain.UserRole;
+import com.akcadag.reactive.exceptions.UserException;
+import com.akcadag.reactive.payload.dto.UserDto;
+import com.akcadag.reactive.payload.response.AuthResponse;
+import com.akcadag.reactive.payload.response.UserPageResponse;
+import com.akcadag.reactive.service.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth")
+public class AuthController {
+    private final AuthService authService;
+
+    @PostMapping("/signup")
+    public Mono<AuthResponse> signUpHandler(
+            @RequestBody UserDto userDto,
+            @RequestAttribute(name = AuthenticatedUser.ATTRIBUTE, required = false) AuthenticatedUser creator) {
+        return authService.signUp(userDto, creator);
+    }
+
+    @PostMapping("/login")
+    public Mono<AuthResponse> logInHandler(@RequestBody UserDto userDto) {
+        return authService.logIn(userDto);
+    }
+
+    /**
+     * Kullanıcı listesi JSON dizisi olarak (mevcut istemcilerin beklediği biçim): /auth/users?role=ROLE_CASHIER&store=7
+     * Dizi elemanları veritabanından okundukça yazılır.
+     * Token ister; mağazaya bağlı token sadece kendi mağazasını listeleyebilir.
+     */
+    @GetMapping(value = "/users", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<UserDto> getAllUsers(
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Long store,
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user) {
+        return authService.streamUsers(role, scopedStore(store, user));
+    }
+
+    /**
+     * Cursor ile sayfalı kullanıcı listesi: /auth/users/page?after=120&size=50&role=ROLE_CASHIER&store=7
+     * Cevap {users, nextCursor} nesnesidir.
+     */
+    @GetMapping(value = "/users/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<UserPageResponse> getUserPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Long store,
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user) {
+        return authService.getUsers(after, size, role, scopedStore(store, user));
+    }
+
+    /**
+     * Tüm kullanıcılar NDJSON olarak akıtılır (Accept: application/x-ndjson).
+     */
+    @GetMapping(value = "/users", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserDto> streamAllUsers(
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Long store,
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user) {
+        return authService.streamUsers(role, scopedStore(store, user));
+    }
+
+    /**
+     * Kullanıcı listesi yetkisi olmayan token 403 alır. Token mağazaya bağlıysa listeleme o mağazayla
+     * sınırlanır; başka mağaza istenirse 403. Mağazasız token sadece zincir geneli yöneticiyse her mağazayı görür.
+     */
+    private static Long scopedStore(Long requested, AuthenticatedUser user) {
+        if (!user.canListUsers()) {
+            throw new UserException("Listing users is not allowed for this account", HttpStatus.FORBIDDEN);
+        }
+        if (user.storeId() == null) {
+            if (!user.isChainAdmin()) {
+                throw new UserException("Account is not bound to a store", HttpStatus.FORBIDDEN);
+            }
+            return requested;
+        }
+        if (requested != null && !requested.equals(user.storeId())) {
+            throw new UserException("Users of store " + requested + " are not visible to this account",
+                    HttpStatus.FORBIDDEN);
+        }
+        return user.storeId();
+    }
+}
@@ -0,0 +1,27 @@
+package com.akcadag.reactive.controller;
+
+import com.akcadag.reactive.configuration.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ *  Bu node'un public anahtarı; servlet node'ları jwt.keys.peer-jwks-uris ile bu adresi okuyabilir.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtService jwtService;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtService.jwksJson());
+    }
+}
@@ -0,0 +1,32 @@
+package com.akcadag.reactive.controller;
+
+import com.akcadag.reactive.configuration.AuthenticatedUser;
+import com.akcadag.reactive.exceptions.UserException;
+import com.akcadag.reactive.mapper.UserMapper;
+import com.akcadag.reactive.payload.dto.UserDto;
+import com.akcadag.reactive.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/users")
+public class UserController {
+    private final UserRepository userRepository;
+
+    /**
+     * JWT ile giriş yapmış kullanıcının profilini döndürür.
+     */
+    @GetMapping("/profile")
+    public Mono<UserDto> getUserProfile(@RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user) {
+        return userRepository.findByEmail(user.email())
+                .map(UserMapper::toDTO)
+                .switchIfEmpty(Mono.error(new UserException("User not found with email: " + user.email(),
+                        HttpStatus.NOT_FOUND)));
+    }
+}
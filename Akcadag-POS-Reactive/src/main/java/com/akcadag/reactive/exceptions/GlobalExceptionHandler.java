@@ -0,0 +1,27 @@
+package com.akcadag.reactive.exceptions;
+
+import com.akcadag.reactive.payload.response.ApiResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(UserException.class)
+    public ResponseEntity<ApiResponse> handleUser(UserException e) {
+        return ResponseEntity.status(e.getStatus()).body(new ApiResponse(e.getMessage()));
+    }
+
+    /**
+     * Sunucu meşgulken istek kuyrukta bekletilmez, hemen 503 döner.
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiResponse> handleServiceBusy(ServiceBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ApiResponse(e.getMessage()));
+    }
+}
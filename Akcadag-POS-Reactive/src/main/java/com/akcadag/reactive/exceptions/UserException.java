@@ -0,0 +1,24 @@
+package com.akcadag.reactive.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Kullanıcı işlemlerindeki hatalar (kayıtlı email, yanlış şifre vb.).
+ * Reactive zincirde hata sinyali olarak taşındığı için RuntimeException'dır.
+ */
+public class UserException extends RuntimeException {
+    private final HttpStatus status;
+
+    public UserException(String message) {
+        this(message, HttpStatus.BAD_REQUEST);
+    }
+
+    public UserException(String message, HttpStatus status) {
+        super(message);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,27 @@
+package com.akcadag.reactive.mapper;
+
+import com.akcadag.reactive.domain.UserRole;
+import com.akcadag.reactive.models.UserRow;
+import com.akcadag.reactive.payload.dto.UserDto;
+
+/*
+ * Şifre hash'i hiçbir DTO'ya kopyalanmaz.
+ */
+public class UserMapper {
+
+    private static final UserRole[] ROLES = UserRole.values();
+
+    public static UserDto toDTO(UserRow row) {
+        UserDto userDto = new UserDto();
+        userDto.setId(row.getId());
+        userDto.setFullName(row.getFullName());
+        userDto.setEmail(row.getEmail());
+        userDto.setPhone(row.getPhone());
+        userDto.setRole(row.getRole() == null ? null : ROLES[row.getRole()]);
+        userDto.setStoreId(row.getStoreId());
+        userDto.setCreatedAt(row.getCreatedAt());
+        userDto.setUpdatedAt(row.getUpdatedAt());
+        userDto.setLastLoginAt(row.getLastLoginAt());
+        return userDto;
+    }
+}
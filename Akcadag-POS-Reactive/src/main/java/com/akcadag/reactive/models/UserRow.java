@@ -0,0 +1,30 @@
+package com.akcadag.reactive.models;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ *  users tablosunun R2DBC karşılığı (servlet uygulamasındaki User entity ile aynı tablo).
+ * role, UserRole ordinal'i olarak tutulur.
+ */
+@Data
+@Table("users")
+@NoArgsConstructor
+public class UserRow {
+    @Id
+    private Long id;
+    private String fullName;
+    private String email;
+    private String password;
+    private String phone;
+    private Integer role;
+    // null → zincir geneli kullanıcı
+    private Long storeId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime lastLoginAt;
+}
@@ -0,0 +1,23 @@
+package com.akcadag.reactive.payload.dto;
+
+import com.akcadag.reactive.domain.UserRole;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class UserDto {
+    private Long id;
+    private String fullName;
+    private String email;
+    // Sadece istekten okunur (signup/login), hiçbir cevaba yazılmaz
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private String password;
+    private String phone;
+    private UserRole role;
+    private Long storeId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime lastLoginAt;
+}
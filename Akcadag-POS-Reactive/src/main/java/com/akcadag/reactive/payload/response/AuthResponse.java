@@ -0,0 +1,11 @@
+package com.akcadag.reactive.payload.response;
+
+import com.akcadag.reactive.payload.dto.UserDto;
+import lombok.Data;
+
+@Data
+public class AuthResponse {
+    private String jwt;
+    private String message;
+    private UserDto user;
+}
@@ -0,0 +1,13 @@
+package com.akcadag.reactive.payload.response;
+
+import com.akcadag.reactive.payload.dto.UserDto;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UserPageResponse {
+    private List<UserDto> users;
+    // Bir sonraki sayfa için ?after= değeri, son sayfada null
+    private Long nextCursor;
+}
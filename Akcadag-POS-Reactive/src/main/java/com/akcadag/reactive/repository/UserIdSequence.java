@@ -0,0 +1,27 @@
+package com.akcadag.reactive.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ *  users_seq'ten yeni kullanıcı id'si alır.
+ * Servlet uygulaması bu sequence'i Hibernate pooled optimizer ile kullanır: dönen değer v ise
+ * [v - allocationSize + 1, v] bloğu çağırana aittir. Burada bloğun üst sınırı (v) kullanılır,
+ * böylece iki uygulama aynı tabloya çakışmadan yazar.
+ */
+@Repository
+public class UserIdSequence {
+
+    private final DatabaseClient databaseClient;
+
+    public UserIdSequence(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Long> next() {
+        return databaseClient.sql("select nextval('users_seq')")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+}
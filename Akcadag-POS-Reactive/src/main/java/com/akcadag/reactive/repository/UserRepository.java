@@ -0,0 +1,52 @@
+package com.akcadag.reactive.repository;
+
+import com.akcadag.reactive.models.UserRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface UserRepository extends R2dbcRepository<UserRow, Long> {
+    Mono<UserRow> findByEmail(String email);
+
+    Mono<Boolean> existsByEmail(String email);
+
+    /*
+     * Keyset (cursor) sayfalama: afterId'den büyük id'ler sırayla, en fazla limit kadar.
+     */
+
+    @Query("select * from users where id > :afterId order by id limit :limit")
+    Flux<UserRow> findPageAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Query("select * from users where id > :afterId and role = :role order by id limit :limit")
+    Flux<UserRow> findPageAfterByRole(@Param("afterId") long afterId, @Param("role") int role, @Param("limit") int limit);
+
+    /*
+     * Mağaza listeleri (store_id, id) ve (store_id, role, id) indeksleri üzerinden okunur.
+     */
+
+    @Query("select * from users where store_id = :storeId and id > :afterId order by id limit :limit")
+    Flux<UserRow> findStorePageAfter(@Param("storeId") long storeId, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Query("select * from users where store_id = :storeId and role = :role and id > :afterId order by id limit :limit")
+    Flux<UserRow> findStorePageAfterByRole(@Param("storeId") long storeId, @Param("afterId") long afterId,
+                                           @Param("role") int role, @Param("limit") int limit);
+
+    Flux<UserRow> findAllByOrderById();
+
+    Flux<UserRow> findAllByRoleOrderById(Integer role);
+
+    Flux<UserRow> findAllByStoreIdOrderById(Long storeId);
+
+    Flux<UserRow> findAllByStoreIdAndRoleOrderById(Long storeId, Integer role);
+
+    @Modifying
+    @Query("update users set last_login_at = :lastLoginAt where id = :id")
+    Mono<Integer> updateLastLoginAt(@Param("id") Long id, @Param("lastLoginAt") LocalDateTime lastLoginAt);
+}
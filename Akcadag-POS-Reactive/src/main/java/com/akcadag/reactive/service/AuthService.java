@@ -0,0 +1,176 @@
+package com.akcadag.reactive.service;
+
+import com.akcadag.reactive.configuration.AuthenticatedUser;
+import com.akcadag.reactive.configuration.JwtService;
+import com.akcadag.reactive.configuration.PasswordHashingScheduler;
+import com.akcadag.reactive.configuration.RoleAuthorities;
+import com.akcadag.reactive.domain.UserRole;
+import com.akcadag.reactive.exceptions.UserException;
+import com.akcadag.reactive.mapper.UserMapper;
+import com.akcadag.reactive.models.UserRow;
+import com.akcadag.reactive.payload.dto.UserDto;
+import com.akcadag.reactive.payload.response.AuthResponse;
+import com.akcadag.reactive.payload.response.UserPageResponse;
+import com.akcadag.reactive.repository.UserIdSequence;
+import com.akcadag.reactive.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ *  AuthService
+ * Servlet uygulamasındaki AuthServiceImpl ile aynı kurallar; tüm adımlar non-blocking.
+ * BCrypt işlemleri PasswordHashingScheduler'da, veritabanı işlemleri R2DBC ile yapılır.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+
+    private final UserRepository userRepository;
+    private final UserIdSequence userIdSequence;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingScheduler hashingScheduler;
+    private final JwtService jwtService;
+
+    @Value("${auth.users.max-page-size:200}")
+    private int maxPageSize;
+
+    /**
+     * Kullanıcı kaydı: email tekrarı ve yönetici rolleri kontrol edilir, JWT ile döner.
+     * Mağaza sadece mağaza atayabilen bir token ile (creator) verilir; token'sız kayıtta storeId yok sayılır.
+     */
+    public Mono<AuthResponse> signUp(UserDto userDto, AuthenticatedUser creator) {
+        if (userDto.getRole() == null || userDto.getRole().isAdministrative()) {
+            return Mono.error(new UserException("Role Admin is not allowed!"));
+        }
+        if (!userDto.getRole().isSelfRegistrable() && (creator == null || !creator.canAssignStore())) {
+            return Mono.error(new UserException("Role " + userDto.getRole() + " can only be assigned by a store admin"));
+        }
+        Long storeId;
+        try {
+            storeId = assignableStoreId(userDto.getStoreId(), creator);
+        } catch (UserException e) {
+            return Mono.error(e);
+        }
+
+        return userRepository.existsByEmail(userDto.getEmail())
+                .flatMap(exists -> exists
+                        ? Mono.error(new UserException("Email Id already registered!"))
+                        : hashingScheduler.execute(() -> passwordEncoder.encode(userDto.getPassword())))
+                .zipWith(userIdSequence.next())
+                .flatMap(hashAndId -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    UserRow user = new UserRow();
+                    user.setId(hashAndId.getT2());
+                    user.setEmail(userDto.getEmail());
+                    user.setPassword(hashAndId.getT1());
+                    user.setRole(userDto.getRole().ordinal());
+                    user.setStoreId(storeId);
+                    user.setFullName(userDto.getFullName());
+                    user.setPhone(userDto.getPhone());
+                    user.setCreatedAt(now);
+                    user.setLastLoginAt(now);
+                    return entityTemplate.insert(user);
+                })
+                .map(saved -> authResponse(saved, "Register Successfully!"));
+    }
+
+    /**
+     * Email ve şifre doğrulanır, son giriş zamanı güncellenir ve JWT döner.
+     */
+    public Mono<AuthResponse> logIn(UserDto userDto) {
+        return userRepository.findByEmail(userDto.getEmail())
+                .switchIfEmpty(Mono.error(new UserException("Email Id doesn't exist " + userDto.getEmail(),
+                        HttpStatus.UNAUTHORIZED)))
+                .flatMap(user -> hashingScheduler
+                        .execute(() -> passwordEncoder.matches(userDto.getPassword(), user.getPassword()))
+                        .flatMap(matches -> matches
+                                ? Mono.just(user)
+                                : Mono.error(new UserException("Password doesn't match", HttpStatus.UNAUTHORIZED))))
+                .flatMap(user -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    user.setLastLoginAt(now);
+                    return userRepository.updateLastLoginAt(user.getId(), now).thenReturn(user);
+                })
+                .map(user -> authResponse(user, "Login Successfully!"));
+    }
+
+    /**
+     * Kullanıcıları id üzerinden keyset (cursor) sayfalama ile döndürür; storeId verilirse o mağaza.
+     */
+    public Mono<UserPageResponse> getUsers(Long after, int size, UserRole role, Long storeId) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        long afterId = after == null ? 0L : after;
+
+        Flux<UserRow> rows;
+        if (storeId != null) {
+            rows = role == null
+                    ? userRepository.findStorePageAfter(storeId, afterId, pageSize)
+                    : userRepository.findStorePageAfterByRole(storeId, afterId, role.ordinal(), pageSize);
+        } else {
+            rows = role == null
+                    ? userRepository.findPageAfter(afterId, pageSize)
+                    : userRepository.findPageAfterByRole(afterId, role.ordinal(), pageSize);
+        }
+
+        return rows.map(UserMapper::toDTO)
+                .collectList()
+                .map(users -> {
+                    UserPageResponse page = new UserPageResponse();
+                    page.setUsers(users);
+                    page.setNextCursor(users.size() == pageSize ? users.get(users.size() - 1).getId() : null);
+                    return page;
+                });
+    }
+
+    /**
+     * Tüm kullanıcılar; satırlar veritabanından okundukça (backpressure ile) akıtılır.
+     */
+    public Flux<UserDto> streamUsers(UserRole role, Long storeId) {
+        Flux<UserRow> rows;
+        if (storeId != null) {
+            rows = role == null
+                    ? userRepository.findAllByStoreIdOrderById(storeId)
+                    : userRepository.findAllByStoreIdAndRoleOrderById(storeId, role.ordinal());
+        } else {
+            rows = role == null
+                    ? userRepository.findAllByOrderById()
+                    : userRepository.findAllByRoleOrderById(role.ordinal());
+        }
+        return rows.map(UserMapper::toDTO);
+    }
+
+    /**
+     * Zincir geneli yönetici istediği mağazayı, mağaza admini sadece kendi mağazasını atayabilir.
+     */
+    private static Long assignableStoreId(Long requested, AuthenticatedUser creator) {
+        if (creator == null || !creator.canAssignStore()) {
+            return null;
+        }
+        if (creator.storeId() == null) {
+            return requested;
+        }
+        if (requested != null && !requested.equals(creator.storeId())) {
+            throw new UserException("Users of store " + requested + " can not be created by this account",
+                    HttpStatus.FORBIDDEN);
+        }
+        return creator.storeId();
+    }
+
+    private AuthResponse authResponse(UserRow user, String message) {
+        UserRole role = UserRole.values()[user.getRole()];
+        AuthResponse authResponse = new AuthResponse();
+        authResponse.setJwt(jwtService.generateToken(user.getEmail(), RoleAuthorities.bit(role), user.getStoreId()));
+        authResponse.setMessage(message);
+        authResponse.setUser(UserMapper.toDTO(user));
+        return authResponse;
+    }
+}
@@ -0,0 +1,118 @@
+package com.akcadag.reactive;
+
+import com.akcadag.reactive.configuration.JwtService;
+import com.akcadag.reactive.configuration.RoleAuthorities;
+import com.akcadag.reactive.domain.UserRole;
+import com.akcadag.reactive.payload.response.AuthResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+class AuthFlowTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void signUpLogInAndReadProfile() {
+        Map<String, String> signUp = Map.of(
+                "fullName", "Reactive Cashier",
+                "email", "reactive@x.com",
+                "password", "pw123",
+                "role", "ROLE_CASHIER",
+                "storeId", "7");
+
+        webTestClient.post().uri("/auth/signup")
+                .bodyValue(signUp)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.user.id").isNumber()
+                // Token'sız kayıtta istemcinin seçtiği mağaza yok sayılır
+                .jsonPath("$.user.storeId").doesNotExist();
+
+        // Müdür rolü token'sız kayıtla alınamaz
+        webTestClient.post().uri("/auth/signup")
+                .bodyValue(Map.of("fullName", "Manager", "email", "manager@x.com",
+                        "password", "pw123", "role", "ROLE_STORE_MANAGER"))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        // Aynı email ikinci kez kaydedilemez
+        webTestClient.post().uri("/auth/signup")
+                .bodyValue(signUp)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        AuthResponse login = webTestClient.post().uri("/auth/login")
+                .bodyValue(Map.of("email", "reactive@x.com", "password", "pw123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AuthResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(login).isNotNull();
+        assertThat(login.getJwt()).isNotBlank();
+
+        webTestClient.post().uri("/auth/login")
+                .bodyValue(Map.of("email", "reactive@x.com", "password", "wrong"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/api/users/profile")
+                .header("Authorization", "Bearer " + login.getJwt())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.email").isEqualTo("reactive@x.com")
+                .jsonPath("$.password").doesNotExist();
+
+        webTestClient.get().uri("/api/users/profile")
+                .header("Authorization", "Bearer invalid.token.value")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/auth/users?size=10")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        // Kasiyerin kullanıcı listesi yetkisi yok
+        webTestClient.get().uri("/auth/users")
+                .header("Authorization", "Bearer " + login.getJwt())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isForbidden();
+
+        String admin = jwtService.generateToken("admin@x.com", RoleAuthorities.bit(UserRole.ROLE_SUPER_ADMIN), null);
+        webTestClient.get().uri("/auth/users")
+                .header("Authorization", "Bearer " + admin)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[0].email").isEqualTo("reactive@x.com");
+
+        webTestClient.get().uri("/auth/users/page?size=10")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/auth/users/page?size=10")
+                .header("Authorization", "Bearer " + admin)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.users[0].email").isEqualTo("reactive@x.com");
+    }
+}
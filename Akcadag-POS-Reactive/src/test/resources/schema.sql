@@ -0,0 +1,27 @@
+-- Servlet uygulamasinin (Hibernate) olusturdugu tablolarin test karsiligi
+create sequence if not exists users_seq start with 1 increment by 50;
+
+create table if not exists users (
+    id bigint primary key,
+    full_name varchar(255) not null,
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    phone varchar(255),
+    role smallint not null,
+    store_id bigint,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    last_login_at timestamp(6)
+);
+
+create index if not exists idx_users_store_id on users (store_id, id);
+create index if not exists idx_users_store_role_id on users (store_id, role, id);
+
+create table if not exists token_revocations (
+    id bigint generated by default as identity primary key,
+    jti varchar(36),
+    email varchar(255),
+    issued_before timestamp(6) with time zone,
+    expires_at timestamp(6) with time zone not null,
+    created_at timestamp(6) with time zone
+);
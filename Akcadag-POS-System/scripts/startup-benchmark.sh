@@ -0,0 +1,123 @@
+#!/usr/bin/env bash
+#
+# Acilis olcumu: varsayilan mod ile AOT + AppCDS modu karsilastirilir.
+# Her calistirmada uygulama baslatilir, ilk basarili /auth/login'e kadar gecen sure (ms)
+# ve o andaki RSS (MB) raporlanir.
+#
+#   mvn -Pfast-startup -DskipTests package
+#   scripts/startup-benchmark.sh
+#
+# Ortam degiskenleri:
+#   RUNS              her mod icin calistirma sayisi (varsayilan 5)
+#   PORT              uygulama portu (varsayilan 5001)
+#   LOGIN_EMAIL       olcumde kullanilan kullanici, yoksa ilk calistirmada signup ile olusturulur
+#   LOGIN_PASSWORD
+#   APP_ARGS          uygulamaya verilen ek argumanlar (ör. --spring.datasource.url=...)
+#   EXTRA_CLASSPATH   ek jar'lar (ör. yerel denemede H2 surucusu)
+#   JAVA_OPTS         her iki moda da eklenen JVM ayarlari
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-5001}
+LOGIN_EMAIL=${LOGIN_EMAIL:-startup-bench@akcadag.com}
+LOGIN_PASSWORD=${LOGIN_PASSWORD:-startup-bench-1234}
+APP_ARGS=${APP_ARGS:-}
+EXTRA_CLASSPATH=${EXTRA_CLASSPATH:-}
+JAVA_OPTS=${JAVA_OPTS:-}
+MAIN_CLASS=com.akcadag.POS_Application
+
+WORK_DIR=target/startup
+JAR=$(ls target/*-SNAPSHOT.jar 2>/dev/null | head -n 1 || true)
+if [[ -z "$JAR" ]]; then
+    echo "Jar bulunamadi, once: mvn -Pfast-startup -DskipTests package" >&2
+    exit 1
+fi
+if ! unzip -l "$JAR" | grep -q "__ApplicationContextInitializer.class"; then
+    echo "Jar AOT ile derlenmemis, once: mvn -Pfast-startup -DskipTests package" >&2
+    exit 1
+fi
+
+# CDS arsivi ic ice (nested) jar'larla calismaz; jar lib/ klasoru ile birlikte acilir
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR"
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK_DIR/app" > /dev/null
+CLASSPATH="$WORK_DIR/app/$(basename "$JAR")${EXTRA_CLASSPATH:+:$EXTRA_CLASSPATH}"
+ARCHIVE="$WORK_DIR/app.jsa"
+
+DEFAULT_OPTS="$JAVA_OPTS"
+OPTIMIZED_OPTS="$JAVA_OPTS -Dspring.aot.enabled=true -XX:SharedArchiveFile=$ARCHIVE -Xshare:auto"
+
+# Egitim calistirmasi: context refresh edilir ve cikilir, yuklenen siniflar arsive yazilir
+echo "AppCDS arsivi olusturuluyor ($ARCHIVE)..."
+# shellcheck disable=SC2086
+java $JAVA_OPTS -Dspring.aot.enabled=true -XX:ArchiveClassesAtExit="$ARCHIVE" \
+    -Dspring.context.exit=onRefresh -cp "$CLASSPATH" "$MAIN_CLASS" \
+    --server.port="$PORT" $APP_ARGS > "$WORK_DIR/training.log" 2>&1
+
+login() {
+    curl -s -o /dev/null -w "%{http_code}" -X POST "http://localhost:$PORT/auth/login" \
+        -H "Content-Type: application/json" \
+        -d "{\"email\":\"$LOGIN_EMAIL\",\"password\":\"$LOGIN_PASSWORD\"}" || true
+}
+
+signup() {
+    curl -s -o /dev/null -X POST "http://localhost:$PORT/auth/signup" \
+        -H "Content-Type: application/json" \
+        -d "{\"email\":\"$LOGIN_EMAIL\",\"password\":\"$LOGIN_PASSWORD\",\"fullName\":\"Startup Bench\",\"role\":\"ROLE_CASHIER\"}" || true
+}
+
+# Tek calistirma: "<ms> <rss_mb>" yazar
+run_once() {
+    local opts=$1 log=$2
+    local start pid status elapsed rss
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    java $opts -cp "$CLASSPATH" "$MAIN_CLASS" --server.port="$PORT" $APP_ARGS > "$log" 2>&1 &
+    pid=$!
+
+    while true; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Uygulama baslamadi, bkz. $log" >&2
+            exit 1
+        fi
+        status=$(login)
+        if [[ "$status" == "200" ]]; then
+            break
+        fi
+        # Sunucu cevap veriyor ama kullanici yok (bos veritabani): bir kez olusturulur
+        if [[ "$status" != "000" ]]; then
+            signup
+            continue
+        fi
+        sleep 0.02
+    done
+
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    rss=$(awk '/VmRSS/ { printf "%d", $2 / 1024 }' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed $rss"
+}
+
+report() {
+    local mode=$1 opts=$2
+    local total_ms=0 total_rss=0 result ms rss
+    for i in $(seq 1 "$RUNS"); do
+        result=$(run_once "$opts" "$WORK_DIR/$mode-$i.log")
+        read -r ms rss <<< "$result"
+        printf "%-10s run %-3s %6s ms %6s MB\n" "$mode" "$i" "$ms" "$rss"
+        total_ms=$((total_ms + ms))
+        total_rss=$((total_rss + rss))
+    done
+    printf "%-10s avg     %6s ms %6s MB\n\n" "$mode" $((total_ms / RUNS)) $((total_rss / RUNS))
+}
+
+# Isinma: kullanicinin var oldugundan emin olunur, olcume dahil edilmez
+run_once "$DEFAULT_OPTS" "$WORK_DIR/warmup.log" > /dev/null
+
+echo "=== Time to first successful /auth/login ==="
+report default "$DEFAULT_OPTS"
+report optimized "$OPTIMIZED_OPTS"
@@ -0,0 +1,22 @@
+package com.akcadag.benchmark;
+
+import com.akcadag.POS_Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ *  Benchmark'lar için uygulamayı "embedded" profiliyle (bellek içi H2) başlatır.
+ */
+final class EmbeddedApplication {
+
+    private EmbeddedApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(POS_Application.class)
+                .profiles("embedded")
+                .properties(properties)
+                .logStartupInfo(false)
+                .run();
+    }
+}
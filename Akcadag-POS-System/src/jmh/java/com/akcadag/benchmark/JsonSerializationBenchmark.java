@@ -0,0 +1,105 @@
+package com.akcadag.benchmark;
+
+import com.akcadag.configuration.JsonConfig;
+import com.akcadag.domain.UserRole;
+import com.akcadag.payload.dto.UserDto;
+import com.akcadag.payload.response.AuthResponse;
+import com.akcadag.payload.response.UserPageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  AuthResponse (login/signup cevabı) ve 200 kullanıcılık /auth/users sayfasının JSON'a yazılması:
+ *  varsayılan Jackson ile JsonConfig'teki hızlandırılmış codec karşılaştırılır.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"jackson", "fast"})
+    public String codec;
+
+    private ObjectMapper objectMapper;
+    private AuthResponse authResponse;
+    private UserPageResponse userPage;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+
+    @Setup
+    public void setUp() {
+        // Spring Boot'un ObjectMapper ayarları: JavaTimeModule, tarihler ISO string
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (codec.equals("fast")) {
+            JsonConfig config = new JsonConfig();
+            builder.modulesToInstall(config.blackbirdModule(), config.isoLocalDateTimeModule());
+        }
+        objectMapper = builder.build();
+
+        authResponse = new AuthResponse();
+        authResponse.setJwt("eyJraWQiOiJ6RzRCbEtWOHZRUlpOWVBwd3NFWFQtNGhEM1BFbi15RWVPaHViRjgxZmYwIiwiYWxnIjoiRVMyNTYifQ"
+                + ".eyJqdGkiOiJmMzAzMDQ0Yy0yY2MzLTQyNDItYTBmMi1hZWY0NTAxZmI1YzMiLCJpYXQiOjE3OTIyOTczODYsImV4cCI6MTc5MjI5ODI4Niwic3ViIjoiYUB4LmNvbSIsInJsIjo0fQ"
+                + ".E9gbPUUQbyEFTaa-dslYjeauB4qxITj-7C7nzHK8Jr5N4B9WasG2H-mr9_OyYOHhmcF-mm-tdY6yjHBJal69UQ");
+        authResponse.setRefreshToken("1vIa2UPb0TBCKG9Lpn14HrIOeOcJpY7BD7vUEr6ppEY");
+        authResponse.setMessage("Login Successfully!");
+        authResponse.setUser(user(42));
+
+        List<UserDto> users = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            users.add(user(i));
+        }
+        userPage = new UserPageResponse();
+        userPage.setUsers(users);
+        userPage.setNextCursor(200L);
+    }
+
+    @Benchmark
+    public int authResponse() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, authResponse);
+        return out.size();
+    }
+
+    @Benchmark
+    public int userPage() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, userPage);
+        return out.size();
+    }
+
+    private static UserDto user(long id) {
+        LocalDateTime created = LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_793_238);
+        UserDto user = new UserDto();
+        user.setId(id);
+        user.setFullName("Ayse Yilmaz " + id);
+        user.setEmail("user" + id + "@akcadag.com");
+        user.setPhone("+90 555 000 00 00");
+        user.setRole(UserRole.ROLE_CASHIER);
+        user.setCreatedAt(created);
+        user.setUpdatedAt(created.plusDays(id));
+        user.setLastLoginAt(created.plusSeconds(id * 3_600));
+        return user;
+    }
+}
@@ -0,0 +1,98 @@
+package com.akcadag.benchmark;
+
+import com.akcadag.audit.AuditJournal;
+import com.akcadag.configuration.AuthMetrics;
+import com.akcadag.configuration.JwtKeyRing;
+import com.akcadag.configuration.JwtKeyStore;
+import com.akcadag.configuration.JwtProvider;
+import com.akcadag.configuration.JwtTokenCache;
+import com.akcadag.configuration.JwtValidator;
+import com.akcadag.configuration.LegacyHmac;
+import com.akcadag.configuration.TokenRevocationIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  Token üretme (JwtMinter ve jjwt builder), token'dan email okuma ve JwtValidator filtre yolu.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private JwtProvider jwtProvider;
+    private JwtProvider jjwtProvider;
+    private JwtValidator jwtValidator;
+    private Authentication authentication;
+    private String bearerToken;
+
+    @Setup
+    public void setUp() {
+        AuthMetrics metrics = new AuthMetrics(new SimpleMeterRegistry());
+        JwtKeyRing keyRing = new JwtKeyRing("ES256", 86_400_000L, 86_400_000L, 0L, JwtKeyStore.inMemory(), LegacyHmac.DISABLED, List.of(), Duration.ofSeconds(2));
+        jwtProvider = new JwtProvider(keyRing, Duration.ofMinutes(15), true, metrics);
+        jjwtProvider = new JwtProvider(keyRing, Duration.ofMinutes(15), false, metrics);
+        jwtValidator = new JwtValidator(new JwtTokenCache(cacheEnabled, 10_000, keyRing, new SimpleMeterRegistry()), jwtProvider,
+                new TokenRevocationIndex(), metrics, AuditJournal.disabled());
+        authentication = new UsernamePasswordAuthenticationToken(
+                "cashier@akcadag.com", null,
+                AuthorityUtils.createAuthorityList("ROLE_CASHIER"));
+        bearerToken = "Bearer " + jwtProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateTokenJjwt() {
+        return jjwtProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String getEmailFromToken() {
+        return jwtProvider.getEmailFromToken(bearerToken);
+    }
+
+    @Benchmark
+    public Authentication validatorFilter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("Authorization", bearerToken);
+        try {
+            jwtValidator.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
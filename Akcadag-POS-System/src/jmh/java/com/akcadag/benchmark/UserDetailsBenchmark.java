@@ -0,0 +1,68 @@
+package com.akcadag.benchmark;
+
+import com.akcadag.domain.UserRole;
+import com.akcadag.models.User;
+import com.akcadag.repository.UserRepository;
+import com.akcadag.service.impl.CustomUserImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  CustomUserImpl.loadUserByUsername → bellek içi H2 veritabanına karşı.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserDetailsBenchmark {
+
+    private static final int USER_COUNT = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private CustomUserImpl customUserImpl;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedApplication.start();
+        customUserImpl = context.getBean(CustomUserImpl.class);
+
+        List<User> users = new ArrayList<>(USER_COUNT);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new User(null, "Kasiyer " + i, "kasiyer" + i + "@akcadag.com",
+                    "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6KQ5hO4uCGJ3eQG5o5Zx1Xe",
+                    null, UserRole.ROLE_CASHIER, null, now, now, now));
+        }
+        context.getBean(UserRepository.class).saveAll(users);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        int i = ThreadLocalRandom.current().nextInt(USER_COUNT);
+        return customUserImpl.loadUserByUsername("kasiyer" + i + "@akcadag.com");
+    }
+}
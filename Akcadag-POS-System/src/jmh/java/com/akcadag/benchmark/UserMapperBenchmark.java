@@ -0,0 +1,46 @@
+package com.akcadag.benchmark;
+
+import com.akcadag.domain.UserRole;
+import com.akcadag.mapper.UserMapper;
+import com.akcadag.models.User;
+import com.akcadag.payload.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  User entity → UserDto dönüşümü.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class UserMapperBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        user = new User(42L, "Ayse Yilmaz", "ayse@akcadag.com",
+                "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6KQ5hO4uCGJ3eQG5o5Zx1Xe",
+                "+90 555 000 00 00", UserRole.ROLE_CASHIER, null, now, now, now);
+    }
+
+    @Benchmark
+    public UserDto toDTO() {
+        return UserMapper.toDTO(user);
+    }
+}
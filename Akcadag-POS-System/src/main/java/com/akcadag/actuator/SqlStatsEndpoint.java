@@ -0,0 +1,42 @@
+package com.akcadag.actuator;
+
+import com.akcadag.sqlstats.SqlStatementStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ *  /actuator/sqlstats → en yavaş (ortalama süre) ve en sık çalışan SQL cümleleri.
+ *  DELETE /actuator/sqlstats → sayaçları sıfırlar.
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+
+    private final SqlStatementStats sqlStatementStats;
+
+    @ReadOperation
+    public Map<String, Object> stats(@Nullable Integer limit) {
+        int top = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("shapes", sqlStatementStats.shapeCount());
+        result.put("slowest", sqlStatementStats.slowest(top));
+        result.put("mostFrequent", sqlStatementStats.mostFrequent(top));
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlStatementStats.reset();
+    }
+}
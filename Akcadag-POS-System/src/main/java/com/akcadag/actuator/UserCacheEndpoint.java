@@ -0,0 +1,41 @@
+package com.akcadag.actuator;
+
+import com.akcadag.service.impl.UserCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ *  /actuator/usercache → kullanıcı cache'inin isabet oranı, boyutu ve mağaza segmentleri.
+ */
+@Component
+@Endpoint(id = "usercache")
+@RequiredArgsConstructor
+public class UserCacheEndpoint {
+
+    private final UserCache userCache;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("credentials", describe(userCache.credentialsStats(), userCache.credentialsSize()));
+        result.put("profiles", describe(userCache.profileStats(), userCache.profileSize()));
+        result.put("stores", userCache.storeSizes());
+        return result;
+    }
+
+    private static Map<String, Object> describe(CacheStats stats, long size) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", size);
+        result.put("hitRatio", stats.hitRate());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+}
@@ -0,0 +1,11 @@
+package com.akcadag.audit;
+
+/**
+ * Audit kaydının türü. Journal'da ordinal (1 byte) olarak tutulur; yeni türler sadece sona eklenmelidir.
+ */
+public enum AuditEventType {
+    LOGIN_SUCCESS,
+    LOGIN_FAILURE,
+    SIGNUP,
+    TOKEN_REJECTED
+}
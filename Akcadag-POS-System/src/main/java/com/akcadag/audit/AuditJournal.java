@@ -0,0 +1,254 @@
+package com.akcadag.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ *  AuditJournal
+ * Login, signup ve reddedilen token olaylarını veritabanına yazmadan, sadece eklenen (append-only)
+ * bir journal'a kaydeder.
+ * - Request thread'leri sabit boyutlu binary kaydı kilitsiz ring buffer'a koyar ve hemen devam eder;
+ *   buffer doluysa kayıt düşürülür ve audit.journal.dropped sayacı artar, istek asla beklemez.
+ * - Tek bir writer thread'i buffer'ı bellek eşlemeli segment dosyalarına boşaltır; segment dolunca
+ *   yenisi açılır, audit.journal.max-segments'ten eski segmentler silinir.
+ * - Diske yazma politikası (audit.journal.flush-policy):
+ *   OS       → sayfalar işletim sistemine bırakılır (süreç çökerse kayıp yok, elektrik kesilirse olabilir)
+ *   INTERVAL → audit.journal.flush-interval'da bir msync (varsayılan)
+ *   BATCH    → her boşaltılan batch sonrası msync
+ */
+@Slf4j
+@Component
+public class AuditJournal implements DisposableBean {
+
+    public enum FlushPolicy {
+        OS,
+        INTERVAL,
+        BATCH
+    }
+
+    private static final int MAX_BATCH = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final FlushPolicy flushPolicy;
+    private final long flushIntervalNanos;
+    private final AuditRingBuffer ring;
+    private final AuditJournalReader reader;
+    private final Counter written;
+    private final Counter dropped;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+    private AuditSegment segment;
+    private long segmentIndex;
+
+    public AuditJournal(@Value("${audit.journal.enabled:true}") boolean enabled,
+                        @Value("${audit.journal.directory:audit}") Path directory,
+                        @Value("${audit.journal.segment-size:64MB}") DataSize segmentSize,
+                        @Value("${audit.journal.max-segments:32}") int maxSegments,
+                        @Value("${audit.journal.buffer-capacity:16384}") int bufferCapacity,
+                        @Value("${audit.journal.flush-policy:INTERVAL}") FlushPolicy flushPolicy,
+                        @Value("${audit.journal.flush-interval:1s}") Duration flushInterval,
+                        MeterRegistry meterRegistry) throws IOException {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentSize = (int) Math.max(AuditSegment.HEADER_SIZE + AuditRecordFormat.RECORD_SIZE,
+                Math.min(Integer.MAX_VALUE, segmentSize.toBytes()));
+        this.maxSegments = Math.max(1, maxSegments);
+        this.flushPolicy = flushPolicy;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.ring = new AuditRingBuffer(enabled ? bufferCapacity : 1);
+        this.reader = new AuditJournalReader(directory);
+
+        Gauge.builder("audit.journal.pending", ring, AuditRingBuffer::size)
+                .description("Ring buffer'da diske yazılmayı bekleyen kayıt sayısı")
+                .register(meterRegistry);
+        this.written = Counter.builder("audit.journal.written").register(meterRegistry);
+        this.dropped = Counter.builder("audit.journal.dropped")
+                .description("Buffer dolu olduğu için düşürülen kayıtlar")
+                .register(meterRegistry);
+
+        if (enabled) {
+            Files.createDirectories(directory);
+            openLastSegment();
+            this.writer = new Thread(this::runWriter, "audit-writer");
+            writer.setDaemon(true);
+            writer.start();
+        } else {
+            this.writer = null;
+        }
+    }
+
+    /**
+     * Hiçbir şey yazmayan journal (benchmark'lar için).
+     */
+    public static AuditJournal disabled() {
+        try {
+            return new AuditJournal(false, Path.of("audit"), DataSize.ofMegabytes(1), 1, 1,
+                    FlushPolicy.OS, Duration.ofSeconds(1), new SimpleMeterRegistry());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Olayı kaydeder; IP, istek thread'indeyse mevcut HTTP isteğinden alınır.
+     */
+    public void record(AuditEventType type, AuditReason reason, String email) {
+        record(type, reason, email, currentClientIp());
+    }
+
+    public void record(AuditEventType type, AuditReason reason, String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        if (!ring.offer(System.currentTimeMillis(), type, reason,
+                AuditRecordFormat.bytes(email), AuditRecordFormat.bytes(clientIp))) {
+            dropped.increment();
+        }
+    }
+
+    public List<AuditRecord> query(AuditQuery query) {
+        return reader.query(query);
+    }
+
+    /**
+     * Email için son window içindeki başarısız login sayısı.
+     */
+    public long countFailedLogins(String email, Duration window) {
+        Instant now = Instant.now();
+        return reader.count(AuditEventType.LOGIN_FAILURE, email, now.minus(window), now);
+    }
+
+    public AuditJournalReader reader() {
+        return reader;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void runWriter() {
+        long lastForce = System.nanoTime();
+        boolean dirty = false;
+        while (true) {
+            boolean stopping = !running;
+            int count = 0;
+            try {
+                count = drain();
+            } catch (IOException | UncheckedIOException e) {
+                log.error("Could not write audit records to {}", directory, e);
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+            }
+
+            if (count > 0) {
+                segment.commit();
+                written.increment(count);
+                dirty = true;
+            }
+            long now = System.nanoTime();
+            if (dirty && (flushPolicy == FlushPolicy.BATCH
+                    || (flushPolicy == FlushPolicy.INTERVAL && now - lastForce >= flushIntervalNanos))) {
+                segment.force();
+                lastForce = now;
+                dirty = false;
+            }
+
+            if (count == 0) {
+                if (stopping) {
+                    break;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Could not close audit segment {}", segment.path(), e);
+        }
+    }
+
+    private int drain() throws IOException {
+        int count = 0;
+        while (count < MAX_BATCH) {
+            if (segment.isFull()) {
+                rotate();
+            }
+            if (!segment.append(ring)) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private void openLastSegment() throws IOException {
+        List<Path> segments = AuditJournalReader.segmentFiles(directory);
+        if (!segments.isEmpty()) {
+            Path last = segments.get(segments.size() - 1);
+            segmentIndex = AuditJournalReader.segmentIndex(last);
+            AuditSegment existing = AuditSegment.openForAppend(last);
+            if (existing != null && !existing.isFull()) {
+                segment = existing;
+                return;
+            }
+            if (existing != null) {
+                existing.close();
+            }
+        }
+        segment = newSegment();
+    }
+
+    private void rotate() throws IOException {
+        segment.close();
+        segment = newSegment();
+
+        List<Path> segments = AuditJournalReader.segmentFiles(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    private AuditSegment newSegment() throws IOException {
+        segmentIndex++;
+        Path path = directory.resolve(AuditJournalReader.segmentName(segmentIndex));
+        log.debug("Opening audit segment {}", path);
+        return AuditSegment.create(path, segmentSize, System.currentTimeMillis());
+    }
+
+    private static String currentClientIp() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
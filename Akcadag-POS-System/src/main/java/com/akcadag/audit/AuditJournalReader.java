@@ -0,0 +1,153 @@
+package com.akcadag.audit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ *  AuditJournalReader
+ * Segment dosyalarını salt okunur eşleyip kayıtları tarar. Uygulama çalışırken de, kapalıyken de
+ * (ör. başka bir süreçten) aynı dizin üzerinde kullanılabilir.
+ * Zaman aralığının tamamen dışında kalan segmentler okunmaz; kayıtlar String oluşturulmadan filtrelenir,
+ * sadece eşleşenler çözülür (decode).
+ */
+public final class AuditJournalReader {
+
+    static final String SEGMENT_PREFIX = "audit-";
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    // Kayıt zamanı, request thread'inde alınır; writer bir sonraki segmente biraz geç yazabilir
+    private static final long WRITER_LAG_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final Path directory;
+
+    public AuditJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Sorguya uyan en yeni kayıtlar (yeniden eskiye).
+     */
+    public List<AuditRecord> query(AuditQuery query) {
+        byte[] email = AuditRecordFormat.bytes(query.email());
+        int limit = Math.max(0, query.limit());
+        Deque<AuditRecord> newest = new ArrayDeque<>(Math.min(limit, 1024));
+        scan(query.from(), query.to(), query.type(), email, (buffer, offset) -> {
+            if (limit == 0) {
+                return;
+            }
+            if (newest.size() == limit) {
+                newest.removeFirst();
+            }
+            newest.addLast(AuditRecordFormat.decode(buffer, offset));
+        });
+        List<AuditRecord> records = new ArrayList<>(newest);
+        Collections.reverse(records);
+        return records;
+    }
+
+    /**
+     * Aralıktaki kayıt sayısı (ör. bir email için başarısız login sayısı).
+     */
+    public long count(AuditEventType type, String email, Instant from, Instant to) {
+        long[] count = new long[1];
+        scan(from, to, type, AuditRecordFormat.bytes(email), (buffer, offset) -> count[0]++);
+        return count[0];
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        void visit(MappedByteBuffer buffer, int offset);
+    }
+
+    private void scan(Instant from, Instant to, AuditEventType type, byte[] email, RecordVisitor visitor) {
+        long fromMillis = from == null ? Long.MIN_VALUE : from.toEpochMilli();
+        long toMillis = to == null ? Long.MAX_VALUE : to.toEpochMilli();
+
+        List<MappedByteBuffer> segments = mapSegments();
+        for (int i = 0; i < segments.size(); i++) {
+            MappedByteBuffer buffer = segments.get(i);
+            // Sonraki segment aralık başlamadan açıldıysa bu segmentteki tüm kayıtlar daha eskidir
+            if (i + 1 < segments.size() && AuditSegment.createdAt(segments.get(i + 1)) < fromMillis) {
+                continue;
+            }
+            if (toMillis != Long.MAX_VALUE && AuditSegment.createdAt(buffer) > toMillis + WRITER_LAG_MILLIS) {
+                break;
+            }
+
+            int count = AuditSegment.count(buffer);
+            for (int index = 0; index < count; index++) {
+                int offset = AuditSegment.recordOffset(index);
+                long timestamp = AuditRecordFormat.timestamp(buffer, offset);
+                if (timestamp < fromMillis || timestamp >= toMillis) {
+                    continue;
+                }
+                if (type != null && AuditRecordFormat.type(buffer, offset) != type) {
+                    continue;
+                }
+                if (email != null && !AuditRecordFormat.emailEquals(buffer, offset, email)) {
+                    continue;
+                }
+                visitor.visit(buffer, offset);
+            }
+        }
+    }
+
+    private List<MappedByteBuffer> mapSegments() {
+        List<MappedByteBuffer> buffers = new ArrayList<>();
+        for (Path path : segmentFiles(directory)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (AuditSegment.isValid(buffer)) {
+                    buffers.add(buffer);
+                }
+            } catch (IOException e) {
+                // Retention ile silinmiş olabilir
+                if (Files.exists(path)) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        return buffers;
+    }
+
+    /**
+     * Dizindeki segment dosyaları, eskiden yeniye (dosya adındaki sıra numarasına göre).
+     */
+    static List<Path> segmentFiles(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static long segmentIndex(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    static String segmentName(long index) {
+        return String.format("%s%019d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+}
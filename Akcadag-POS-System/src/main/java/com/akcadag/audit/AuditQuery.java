@@ -0,0 +1,10 @@
+package com.akcadag.audit;
+
+import java.time.Instant;
+
+/**
+ * Journal sorgusu. type veya email null ise o alana göre filtrelenmez.
+ * Zaman aralığı [from, to) şeklindedir; en yeni limit kadar kayıt döner.
+ */
+public record AuditQuery(AuditEventType type, String email, Instant from, Instant to, int limit) {
+}
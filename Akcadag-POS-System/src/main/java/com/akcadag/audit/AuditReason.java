@@ -0,0 +1,14 @@
+package com.akcadag.audit;
+
+/**
+ * Başarısız işlemin nedeni. Journal'da ordinal (1 byte) olarak tutulur; yeni nedenler sadece sona eklenmelidir.
+ */
+public enum AuditReason {
+    NONE,
+    UNKNOWN_USER,
+    BAD_CREDENTIALS,
+    THROTTLED,
+    TOKEN_INVALID,
+    TOKEN_EXPIRED,
+    TOKEN_REVOKED
+}
@@ -0,0 +1,9 @@
+package com.akcadag.audit;
+
+import java.time.Instant;
+
+/**
+ * Journal'dan okunan tek bir audit kaydı. Email veya IP bilinmiyorsa null'dır.
+ */
+public record AuditRecord(Instant timestamp, AuditEventType type, AuditReason reason, String email, String clientIp) {
+}
@@ -0,0 +1,110 @@
+package com.akcadag.audit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ *  AuditRecordFormat
+ * Sabit boyutlu (256 byte) binary kayıt düzeni:
+ * <pre>
+ *   0  long   zaman (epoch ms)
+ *   8  byte   AuditEventType ordinal
+ *   9  byte   AuditReason ordinal
+ *  10  byte   email uzunluğu (0-196)
+ *  11  byte   IP uzunluğu (0-48)
+ *  12  196 b  email (UTF-8, gerekirse kesilir)
+ * 208  48 b   IP (UTF-8)
+ * </pre>
+ * Sabit boyut sayesinde ring buffer'da ve segment dosyalarında kayıt konumu index * 256'dır.
+ */
+final class AuditRecordFormat {
+
+    static final int RECORD_SIZE = 256;
+
+    private static final int TIMESTAMP = 0;
+    private static final int TYPE = 8;
+    private static final int REASON = 9;
+    private static final int EMAIL_LENGTH = 10;
+    private static final int IP_LENGTH = 11;
+    private static final int EMAIL = 12;
+    private static final int MAX_EMAIL = 196;
+    private static final int IP = 208;
+    private static final int MAX_IP = 48;
+
+    private static final AuditEventType[] TYPES = AuditEventType.values();
+    private static final AuditReason[] REASONS = AuditReason.values();
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private AuditRecordFormat() {
+    }
+
+    static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Kaydı verilen diziye offset'ten itibaren yazar (ring buffer slotu).
+     */
+    static void encode(byte[] target, int offset, long timestampMillis, AuditEventType type, AuditReason reason,
+                       byte[] email, byte[] clientIp) {
+        LONG.set(target, offset + TIMESTAMP, timestampMillis);
+        target[offset + TYPE] = (byte) type.ordinal();
+        target[offset + REASON] = (byte) reason.ordinal();
+        int emailLength = email == null ? 0 : Math.min(email.length, MAX_EMAIL);
+        int ipLength = clientIp == null ? 0 : Math.min(clientIp.length, MAX_IP);
+        target[offset + EMAIL_LENGTH] = (byte) emailLength;
+        target[offset + IP_LENGTH] = (byte) ipLength;
+        if (emailLength > 0) {
+            System.arraycopy(email, 0, target, offset + EMAIL, emailLength);
+        }
+        if (ipLength > 0) {
+            System.arraycopy(clientIp, 0, target, offset + IP, ipLength);
+        }
+    }
+
+    static long timestamp(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + TIMESTAMP);
+    }
+
+    static AuditEventType type(ByteBuffer buffer, int offset) {
+        return TYPES[buffer.get(offset + TYPE)];
+    }
+
+    /**
+     * Kaydın email alanı verilen byte'larla aynı mı? (String oluşturmadan karşılaştırır)
+     */
+    static boolean emailEquals(ByteBuffer buffer, int offset, byte[] email) {
+        int length = Byte.toUnsignedInt(buffer.get(offset + EMAIL_LENGTH));
+        if (length != Math.min(email.length, MAX_EMAIL)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + EMAIL + i) != email[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static AuditRecord decode(ByteBuffer buffer, int offset) {
+        return new AuditRecord(
+                Instant.ofEpochMilli(timestamp(buffer, offset)),
+                type(buffer, offset),
+                REASONS[buffer.get(offset + REASON)],
+                string(buffer, offset + EMAIL, Byte.toUnsignedInt(buffer.get(offset + EMAIL_LENGTH))),
+                string(buffer, offset + IP, Byte.toUnsignedInt(buffer.get(offset + IP_LENGTH))));
+    }
+
+    private static String string(ByteBuffer buffer, int offset, int length) {
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
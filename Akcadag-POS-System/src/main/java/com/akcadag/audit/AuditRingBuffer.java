@@ -0,0 +1,91 @@
+package com.akcadag.audit;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ *  AuditRingBuffer
+ * Çok üreticili, tek tüketicili (MPSC), sınırlı ve kilitsiz ring buffer.
+ * Kayıtlar önceden ayrılmış tek bir byte dizisindeki sabit boyutlu slotlara yazılır.
+ * Her slotun sıra numarası, slotun yazılmaya mı yoksa okunmaya mı hazır olduğunu gösterir:
+ * üretici slotu CAS ile alır, kaydı yazar ve sıra numarasını ilerleterek yayınlar.
+ * Buffer doluysa üretici beklemez, kayıt reddedilir (request thread'i asla bloklanmaz).
+ */
+final class AuditRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final byte[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // Sadece writer thread'i yazar; volatile olması gauge'un okuyabilmesi içindir
+    private volatile long head;
+
+    AuditRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new byte[capacity * AuditRecordFormat.RECORD_SIZE];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Kaydı buffer'a ekler. Request thread'lerinden aynı anda çağrılabilir.
+     * @return buffer doluysa false
+     */
+    boolean offer(long timestampMillis, AuditEventType type, AuditReason reason, byte[] email, byte[] clientIp) {
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        AuditRecordFormat.encode(slots, index * AuditRecordFormat.RECORD_SIZE,
+                timestampMillis, type, reason, email, clientIp);
+        // Kayıt tamamen yazıldıktan sonra yayınlanır
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Sıradaki kaydı hedef buffer'a kopyalar. Sadece writer thread'inden çağrılır.
+     * @return okunacak kayıt yoksa false
+     */
+    boolean poll(ByteBuffer target) {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return false;
+        }
+        target.put(slots, index * AuditRecordFormat.RECORD_SIZE, AuditRecordFormat.RECORD_SIZE);
+        // Slot, bir tur sonraki üretici için serbest bırakılır
+        sequences.set(index, position + capacity);
+        head = position + 1;
+        return true;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,141 @@
+package com.akcadag.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ *  AuditSegment
+ * Journal'ın bellek eşlemeli (memory-mapped) tek bir segment dosyası.
+ * Dosya oluşturulurken tam boyutuyla eşlenir; kayıtlar sırayla eklenir.
+ * Header'daki kayıt sayısı her batch sonunda güncellenir (commit); okuyucular sadece bu sayıya kadar okur,
+ * böylece yarım yazılmış kayıt hiç görülmez.
+ * <pre>
+ *   0  int   magic ("AUD1")
+ *   4  int   versiyon
+ *   8  int   kayıt boyutu
+ *  12  int   commit edilmiş kayıt sayısı
+ *  16  long  oluşturulma zamanı (epoch ms)
+ *  64        kayıtlar
+ * </pre>
+ */
+final class AuditSegment implements Closeable {
+
+    static final int HEADER_SIZE = 64;
+
+    private static final int MAGIC = 0x41554431;
+    private static final int VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int COUNT_OFFSET = 12;
+    private static final int CREATED_AT_OFFSET = 16;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private int count;
+
+    private AuditSegment(Path path, FileChannel channel, MappedByteBuffer buffer, int count) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = (buffer.capacity() - HEADER_SIZE) / AuditRecordFormat.RECORD_SIZE;
+        this.count = count;
+        buffer.position(HEADER_SIZE + count * AuditRecordFormat.RECORD_SIZE);
+    }
+
+    /**
+     * Yeni bir segment dosyası oluşturur ve tam boyutuyla eşler.
+     */
+    static AuditSegment create(Path path, int sizeBytes, long createdAtMillis) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(RECORD_SIZE_OFFSET, AuditRecordFormat.RECORD_SIZE);
+        buffer.putInt(COUNT_OFFSET, 0);
+        buffer.putLong(CREATED_AT_OFFSET, createdAtMillis);
+        return new AuditSegment(path, channel, buffer, 0);
+    }
+
+    /**
+     * Uygulama yeniden başladığında son segmente kaldığı yerden devam eder.
+     * @return dosya geçerli bir segment değilse null
+     */
+    static AuditSegment openForAppend(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        if (!isValid(buffer)) {
+            channel.close();
+            return null;
+        }
+        return new AuditSegment(path, channel, buffer, count(buffer));
+    }
+
+    static boolean isValid(ByteBuffer buffer) {
+        return buffer.capacity() >= HEADER_SIZE
+                && buffer.getInt(MAGIC_OFFSET) == MAGIC
+                && buffer.getInt(VERSION_OFFSET) == VERSION
+                && buffer.getInt(RECORD_SIZE_OFFSET) == AuditRecordFormat.RECORD_SIZE;
+    }
+
+    static int count(ByteBuffer buffer) {
+        return buffer.getInt(COUNT_OFFSET);
+    }
+
+    static long createdAt(ByteBuffer buffer) {
+        return buffer.getLong(CREATED_AT_OFFSET);
+    }
+
+    static int recordOffset(int index) {
+        return HEADER_SIZE + index * AuditRecordFormat.RECORD_SIZE;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    /**
+     * Ring buffer'daki sıradaki kaydı segmente ekler.
+     * @return segment doluysa veya buffer boşsa false
+     */
+    boolean append(AuditRingBuffer ring) {
+        if (isFull() || !ring.poll(buffer)) {
+            return false;
+        }
+        count++;
+        return true;
+    }
+
+    /**
+     * Eklenen kayıtları okuyuculara görünür yapar.
+     */
+    void commit() {
+        buffer.putInt(COUNT_OFFSET, count);
+    }
+
+    /**
+     * Değişen sayfaları diske yazar (msync).
+     */
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        commit();
+        force();
+        channel.close();
+    }
+}
@@ -0,0 +1,56 @@
+package com.akcadag.configuration;
+
+import java.util.Locale;
+
+/**
+ *  AcceptEncoding
+ * Accept-Encoding başlığını q değerleriyle birlikte okur (RFC 9110, 12.5.3).
+ * "gzip;q=0" gzip'i açıkça reddeder; "*" listede adı geçmeyen tüm kodlamaları kapsar.
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * İstemci gzip ile sıkıştırılmış cevabı kabul ediyorsa true.
+     */
+    public static boolean acceptsGzip(String header) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String element : header.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? q : Math.max(gzip, q);
+            } else if (coding.equals("*")) {
+                wildcard = q;
+            }
+        }
+        // Açıkça yazılan gzip, * değerinden önce gelir
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                    && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // Bozuk q değeri kodlamayı kabul edilmez yapar
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,115 @@
+package com.akcadag.configuration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ *  AdaptiveConcurrencyLimiter
+ * Aynı anda işlenen istek sayısını gözlenen gecikmeye göre ayarlar (gradient algoritması).
+ * - Uzun dönem gecikme (yavaş hareketli ortalama) "normal" kabul edilir.
+ * - Son ölçülen gecikme bunun tolerance katını aşarsa limit gradient oranında küçülür,
+ *   gecikme normale döndükçe sqrt(limit) kadar kuyruk payı ile büyür.
+ * - Hata / zaman aşımı ile biten istekler limiti backoff oranında hemen düşürür (AIMD'deki azaltma).
+ * Limit dolunca yeni istek beklemeden reddedilir; kuyruk Tomcat'te değil istemcide (Retry-After) birikir.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // Uzun dönem ortalama bu kadar örnekle yavaşça güncellenir
+    private static final int LONG_WINDOW = 600;
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    // Limit güncellemesi kısa bir kritik bölgedir; kilit meşgulse örnek atlanır, istek beklemez
+    private final ReentrantLock sampleLock = new ReentrantLock();
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Limit altındaysa bir yer ayırır.
+     * @return yer ayrıldıysa true; false ise istek reddedilmelidir
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * İstek tamamlandı; gecikme örneğiyle limiti günceller.
+     * @param rttNanos isteğin süresi
+     * @param dropped istek hata / zaman aşımı ile bittiyse true
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inflightAtEnd = inflight.getAndDecrement();
+        if (!sampleLock.tryLock()) {
+            return;
+        }
+        try {
+            update(rttNanos, dropped, inflightAtEnd);
+        } finally {
+            sampleLock.unlock();
+        }
+    }
+
+    /**
+     * Örnek alınmadan yer bırakılır (ör. uzun süren stream'ler gecikme ölçüsüne katılmaz).
+     */
+    public void releaseWithoutSample() {
+        inflight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private void update(long rttNanos, boolean dropped, int inflightAtEnd) {
+        double current = limit;
+        if (dropped) {
+            limit = Math.max(minLimit, current * BACKOFF);
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+            // Gecikme kalıcı olarak düştüyse (ör. veritabanı toparlandı) eski yüksek ortalama hızla bırakılır
+            if (longRttNanos > 2 * rttNanos) {
+                longRttNanos = (longRttNanos + rttNanos) / 2;
+            }
+        }
+
+        // Limitin yarısı bile kullanılmıyorsa gecikme limit hakkında bilgi vermez, büyütülmez
+        if (inflightAtEnd < current / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(tolerance * longRttNanos / rttNanos, 0.5, 1.0);
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.clamp(next, minLimit, maxLimit);
+    }
+}
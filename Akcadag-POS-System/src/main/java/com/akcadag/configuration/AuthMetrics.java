@@ -0,0 +1,83 @@
+package com.akcadag.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  AuthMetrics
+ * Kimlik doğrulama zincirindeki Micrometer ölçümleri. Meter'lar açılışta bir kez oluşturulur,
+ * istek sırasında registry'de arama yapılmaz.
+ * - auth.jwt.verify{result=ok|invalid|expired|revoked} → JwtValidator'da token doğrulama süresi ve sayıları
+ * - auth.jwt.cache{result=hit|miss} → JwtTokenCache isabet/ıskalama sayıları (sayaçlar JwtTokenCache'te kaydedilir)
+ * - auth.jwt.generate → JwtProvider.generateToken süresi
+ * - auth.password.verify / auth.password.hash → BCrypt karşılaştırma ve hash süresi (kuyruk beklemesi hariç)
+ * HTTP endpoint'leri (http.server.requests) ve repository metodları (spring.data.repository.invocations)
+ * Spring Boot tarafından ölçülür. Histogram ayarları application.properties'tedir.
+ */
+@Component
+public class AuthMetrics {
+
+    public static final String RESULT_OK = "ok";
+    public static final String RESULT_INVALID = "invalid";
+    public static final String RESULT_EXPIRED = "expired";
+    public static final String RESULT_REVOKED = "revoked";
+
+    private final Timer jwtVerifyOk;
+    private final Timer jwtVerifyInvalid;
+    private final Timer jwtVerifyExpired;
+    private final Timer jwtVerifyRevoked;
+    private final Timer jwtGenerate;
+    private final Timer passwordVerify;
+    private final Timer passwordHash;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.jwtVerifyOk = jwtVerifyTimer(meterRegistry, RESULT_OK);
+        this.jwtVerifyInvalid = jwtVerifyTimer(meterRegistry, RESULT_INVALID);
+        this.jwtVerifyExpired = jwtVerifyTimer(meterRegistry, RESULT_EXPIRED);
+        this.jwtVerifyRevoked = jwtVerifyTimer(meterRegistry, RESULT_REVOKED);
+        this.jwtGenerate = Timer.builder("auth.jwt.generate")
+                .description("JWT üretme süresi")
+                .register(meterRegistry);
+        this.passwordVerify = Timer.builder("auth.password.verify")
+                .description("Login sırasında BCrypt şifre karşılaştırma süresi")
+                .register(meterRegistry);
+        this.passwordHash = Timer.builder("auth.password.hash")
+                .description("Kayıt sırasında BCrypt hash süresi")
+                .register(meterRegistry);
+    }
+
+    /**
+     * JwtValidator'da bir token'ın doğrulanma süresini sonucuyla birlikte kaydeder.
+     */
+    public void recordJwtVerification(long nanos, String result) {
+        Timer timer = switch (result) {
+            case RESULT_INVALID -> jwtVerifyInvalid;
+            case RESULT_EXPIRED -> jwtVerifyExpired;
+            case RESULT_REVOKED -> jwtVerifyRevoked;
+            default -> jwtVerifyOk;
+        };
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public Timer jwtGenerate() {
+        return jwtGenerate;
+    }
+
+    public Timer passwordVerify() {
+        return passwordVerify;
+    }
+
+    public Timer passwordHash() {
+        return passwordHash;
+    }
+
+    private static Timer jwtVerifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.jwt.verify")
+                .description("JwtValidator'da token doğrulama süresi (cache dahil)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
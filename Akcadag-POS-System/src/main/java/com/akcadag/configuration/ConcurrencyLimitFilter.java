@@ -0,0 +1,91 @@
+package com.akcadag.configuration;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ *  ConcurrencyLimitFilter
+ * JwtValidator'dan önce çalışır. İsteğin grubundaki (auth / api) limit doluysa istek token
+ * doğrulaması, BCrypt veya veritabanına hiç ulaşmadan 503 + Retry-After ile döner.
+ * İşlenen isteklerin süresi limiti ayarlamak için ölçülür; 503 / 504 ile biten istekler (ör. dolu BCrypt
+ * havuzu) limiti hemen düşürür. Hatalı şifre veya token gibi istemci hataları limiti etkilemez.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String BUSY_BODY = "{\"message\":\"Server is busy, please try again\"}";
+
+    private final ConcurrencyLimits limits;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimits limits) {
+        this.limits = limits;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ConcurrencyLimits.Partition partition = limits.isEnabled() ? limits.partitionFor(request.getRequestURI()) : null;
+        if (partition == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter limiter = partition.limiter();
+        if (!limiter.tryAcquire()) {
+            partition.shed().increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limits.getRetryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(BUSY_BODY);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // NDJSON gibi akışlar bitene kadar yer tutar, süreleri gecikme ölçüsüne katılmaz
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limiter));
+            } else {
+                limiter.release(System.nanoTime() - start, isOverloaded(response.getStatus()));
+            }
+        }
+    }
+
+    private static boolean isOverloaded(int status) {
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private record ReleaseOnComplete(AdaptiveConcurrencyLimiter limiter) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.releaseWithoutSample();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Yeni async döngüsünde dinleyici tekrar eklenmeli
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.akcadag.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ *  ConcurrencyLimits
+ * ConcurrencyLimitFilter'ın kullandığı iki ayrı limit:
+ * - auth: login, signup, refresh, logout (BCrypt ve yazma ağırlıklı)
+ * - api: token ile gelen istekler (/api/**, /auth/users)
+ * Böylece yavaşlayan login'ler profil gibi ucuz istekleri, ya da tersi, aç bırakmaz.
+ * auth limitinin alt sınırı yüksektir: BCrypt zaten PasswordHashingBulkhead kuyruğuyla sınırlıdır,
+ * limit BCrypt gecikmesi yüzünden küçülürse hashing havuzu boş kalır ve login'ler gereksiz yere reddedilir.
+ * Limitler, anlık istek sayıları ve reddedilen istekler metrik olarak yayınlanır.
+ */
+@Component
+public class ConcurrencyLimits {
+
+    /**
+     * Tek bir limit ve reddedilen istek sayacı.
+     */
+    public record Partition(String name, AdaptiveConcurrencyLimiter limiter, Counter shed) {
+    }
+
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final Partition auth;
+    private final Partition api;
+
+    public ConcurrencyLimits(@Value("${http.concurrency.enabled:true}") boolean enabled,
+                             @Value("${http.concurrency.retry-after:1s}") Duration retryAfter,
+                             @Value("${http.concurrency.tolerance:2.0}") double tolerance,
+                             @Value("${http.concurrency.smoothing:0.2}") double smoothing,
+                             @Value("${http.concurrency.auth.initial-limit:32}") int authInitialLimit,
+                             @Value("${http.concurrency.auth.min-limit:32}") int authMinLimit,
+                             @Value("${http.concurrency.auth.max-limit:100}") int authMaxLimit,
+                             @Value("${http.concurrency.api.initial-limit:50}") int apiInitialLimit,
+                             @Value("${http.concurrency.api.min-limit:4}") int apiMinLimit,
+                             @Value("${http.concurrency.api.max-limit:400}") int apiMaxLimit,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.auth = partition("auth", new AdaptiveConcurrencyLimiter(
+                authInitialLimit, authMinLimit, authMaxLimit, tolerance, smoothing), meterRegistry);
+        this.api = partition("api", new AdaptiveConcurrencyLimiter(
+                apiInitialLimit, apiMinLimit, apiMaxLimit, tolerance, smoothing), meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * İsteğin limit grubu; null ise istek sınırlanmaz (actuator, JWKS, swagger).
+     */
+    public Partition partitionFor(String path) {
+        if (path.startsWith("/api/") || path.startsWith("/auth/users")) {
+            return api;
+        }
+        if (path.startsWith("/auth/")) {
+            return auth;
+        }
+        return null;
+    }
+
+    private static Partition partition(String name, AdaptiveConcurrencyLimiter limiter, MeterRegistry meterRegistry) {
+        Gauge.builder("http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Aynı anda işlenebilecek istek sayısı (gecikmeye göre ayarlanır)")
+                .tag("partition", name)
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .tag("partition", name)
+                .register(meterRegistry);
+        Counter shed = Counter.builder("http.concurrency.shed")
+                .description("Limit dolu olduğu için 503 ile geri çevrilen istekler")
+                .tag("partition", name)
+                .register(meterRegistry);
+        return new Partition(name, limiter, shed);
+    }
+}
@@ -0,0 +1,69 @@
+package com.akcadag.configuration;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ *  IsoLocalDateTimeSerializer
+ * LocalDateTime'ı DateTimeFormatter.ISO_LOCAL_DATE_TIME ile aynı biçimde
+ * (2026-10-18T04:23:06.7359 → kesir sondaki sıfırlar atılarak) doğrudan char dizisine yazar.
+ * Formatter'ın StringBuilder / ara String oluşturmasından kaçınır; her cevapta birkaç tarih alanı olduğu için fark birikir.
+ * Timestamp olarak yazma açıksa veya yıl 0000-9999 dışındaysa jsr310 serializer'ına bırakılır.
+ */
+public class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    private static final int MAX_LENGTH = "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn".length();
+
+    public IsoLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999 || provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            LocalDateTimeSerializer.INSTANCE.serialize(value, gen, provider);
+            return;
+        }
+
+        char[] out = new char[MAX_LENGTH];
+        int pos = digits(out, 0, year, 4);
+        out[pos++] = '-';
+        pos = digits(out, pos, value.getMonthValue(), 2);
+        out[pos++] = '-';
+        pos = digits(out, pos, value.getDayOfMonth(), 2);
+        out[pos++] = 'T';
+        pos = digits(out, pos, value.getHour(), 2);
+        out[pos++] = ':';
+        pos = digits(out, pos, value.getMinute(), 2);
+        out[pos++] = ':';
+        pos = digits(out, pos, value.getSecond(), 2);
+
+        int nano = value.getNano();
+        if (nano > 0) {
+            // ISO_LOCAL_DATE_TIME gibi: kesir 9 haneye kadar, sondaki sıfırlar yazılmaz
+            int width = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                width--;
+            }
+            out[pos++] = '.';
+            pos = digits(out, pos, nano, width);
+        }
+        gen.writeString(out, 0, pos);
+    }
+
+    private static int digits(char[] out, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
@@ -0,0 +1,121 @@
+package com.akcadag.configuration;
+
+import com.akcadag.models.JwtSigningKey;
+import com.akcadag.repository.JwtSigningKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ *  JpaJwtKeyStore
+ * İmzalama anahtarlarını jwt_signing_keys tablosunda saklar; tüm node'lar aynı anahtarları görür.
+ * Private anahtarlar jwt.keys.encryption-secret'tan türetilen AES-256-GCM anahtarıyla şifrelenir
+ * (kid, ek doğrulama verisi olarak imzaya katılır; satırlar arasında kopyalanamaz).
+ */
+@Slf4j
+@Component
+public class JpaJwtKeyStore implements JwtKeyStore {
+
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final JwtSigningKeyRepository repository;
+    private final SecretKey encryptionKey;
+    private final SecureRandom random = new SecureRandom();
+
+    public JpaJwtKeyStore(JwtSigningKeyRepository repository,
+                          @Value("${jwt.keys.encryption-secret:}") String encryptionSecret) {
+        this.repository = repository;
+        if (encryptionSecret.isBlank()) {
+            log.warn("jwt.keys.encryption-secret is not set, JWT signing keys are stored unencrypted");
+            this.encryptionKey = null;
+        } else {
+            this.encryptionKey = new SecretKeySpec(sha256(encryptionSecret), "AES");
+        }
+    }
+
+    /**
+     * Bilerek read-write transaction: replica routing açıkken read-only okuma replikaya gider ve
+     * hemen önce save() ile primary'e yazılan anahtar henüz görünmeyebilir (açılışta "anahtar yok",
+     * rotation'da ise her sync'te yeni anahtar üretimi). Anahtarlar her zaman primary'den okunur.
+     */
+    @Override
+    @Transactional
+    public List<StoredKey> loadActive(String algorithm, Instant now) {
+        return repository.findActive(algorithm, now).stream()
+                .map(entity -> new StoredKey(entity.getKid(), entity.getAlgorithm(),
+                        entity.isEncrypted() ? decrypt(entity.getKid(), entity.getPrivateKey()) : entity.getPrivateKey(),
+                        entity.getPublicKey(), entity.getCreatedAt(), entity.getExpiresAt()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void save(StoredKey key) {
+        JwtSigningKey entity = new JwtSigningKey();
+        entity.setKid(key.kid());
+        entity.setAlgorithm(key.algorithm());
+        entity.setEncrypted(encryptionKey != null);
+        entity.setPrivateKey(encryptionKey != null ? encrypt(key.kid(), key.privateKey()) : key.privateKey());
+        entity.setPublicKey(key.publicKey());
+        entity.setCreatedAt(key.createdAt());
+        entity.setExpiresAt(key.expiresAt());
+        repository.save(entity);
+    }
+
+    @Override
+    @Transactional
+    public void deleteExpired(Instant now) {
+        repository.deleteExpired(now);
+    }
+
+    private byte[] encrypt(String kid, byte[] plain) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = cipher.doFinal(plain);
+            return ByteBuffer.allocate(IV_LENGTH + sealed.length).put(iv).put(sealed).array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not encrypt JWT signing key " + kid, e);
+        }
+    }
+
+    private byte[] decrypt(String kid, byte[] stored) {
+        if (encryptionKey == null) {
+            throw new IllegalStateException("JWT signing key " + kid + " is encrypted but jwt.keys.encryption-secret is not set");
+        }
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, stored, 0, IV_LENGTH));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            return cipher.doFinal(stored, IV_LENGTH, stored.length - IV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not decrypt JWT signing key " + kid + ", check jwt.keys.encryption-secret", e);
+        }
+    }
+
+    private static byte[] sha256(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.akcadag.configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDateTime;
+
+/**
+ *  JsonConfig
+ * AuthResponse, UserDto ve /auth/users cevaplarını yazan ObjectMapper için hızlandırılmış codec.
+ * Spring Boot, Module bean'lerini otomatik ObjectMapper'a ekler (JavaTimeModule'den sonra, yani öncelikli).
+ * - BlackbirdModule: getter/setter çağrıları reflection yerine LambdaMetafactory ile üretilen sınıflardan yapılır.
+ * - IsoLocalDateTimeSerializer: tarih alanları formatter kullanmadan yazılır.
+ * json.fast-codec.enabled=false ile varsayılan Jackson davranışına dönülür; JSON çıktısı aynıdır.
+ */
+@Configuration
+@ConditionalOnProperty(name = "json.fast-codec.enabled", havingValue = "true", matchIfMissing = true)
+public class JsonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module isoLocalDateTimeModule() {
+        return new SimpleModule("iso-local-date-time")
+                .addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+    }
+}
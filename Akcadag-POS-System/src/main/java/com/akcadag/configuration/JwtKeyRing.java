@@ -0,0 +1,320 @@
+package com.akcadag.configuration;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ *  JwtKeyRing
+ * JWT'leri asimetrik anahtarlarla (ES256 veya EdDSA) imzalar ve her token'a "kid" header'ı ekler.
+ * - Anahtarlar JwtKeyStore'da (veritabanı) saklanır; yeniden başlatma token'ları geçersiz kılmaz,
+ *   tüm node'lar aynı anahtarlarla imzalar ve doğrular.
+ * - En yeni anahtar rotation-interval'dan eskiyse yenisi üretilir (rotation). Yeni anahtar hemen
+ *   yayınlanır ve doğrulamaya eklenir, ama imzalamada activation-delay sonra kullanılır; bu sürede
+ *   diğer node'lar da anahtarı store'dan okumuş olur.
+ * - Eski anahtarlar overlap süresi boyunca doğrulama için tutulmaya devam eder.
+ * - Doğrulama anahtarları kid → PublicKey şeklinde önceden hazırlanmış bir map'ten okunur.
+ * - Public anahtarlar /.well-known/jwks.json üzerinden yayınlanır; diğer servisler token'ları
+ *   bu servise istek atmadan kendi başlarına doğrulayabilir.
+ * Key ring öncesi üretilmiş kid'siz HS256 token'lar sadece jwt.keys.accept-legacy-hmac=true ise,
+ * config'ten okunan secret ile ve geçiş süresi (cutoff) dolana kadar kabul edilir.
+ * jwt.keys.peer-jwks-uris ile verilen başka servislerin (ör. reaktif node) JWKS'leri arka planda,
+ * zaman aşımlı olarak okunur. Bilinmeyen bir kid istek thread'ini bekletmez; sadece arka planda
+ * store ve peer'ların yeniden okunmasını tetikler.
+ * Doğrulama anahtarlarından biri düştüğünde (süresi dolan anahtar, peer'ın artık yayınlamadığı kid)
+ * onKeysRemoved ile kaydolan dinleyiciler (JwtTokenCache) çağrılır.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    /**
+     * İmzalama anahtarı: kid, private/public anahtar ve JWKS'te yayınlanan public JWK.
+     */
+    public record SigningKey(String kid, PrivateKey privateKey, PublicKey publicKey, PublicJwk<?> jwk) {
+    }
+
+    // Bilinmeyen kid'ler en fazla bu aralıkla arka plan yenilemesi tetikler
+    private static final Duration UNKNOWN_KID_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    private final SignatureAlgorithm algorithm;
+    private final String keyFactoryAlgorithm;
+    private final Duration rotationInterval;
+    private final Duration overlap;
+    private final Duration activationDelay;
+    private final JwtKeyStore keyStore;
+    private final SecretKey legacyKey;
+    private final Instant legacyCutoff;
+    private final List<String> peerJwksUris;
+    private final RestClient restClient;
+
+    private volatile SigningKey current;
+    // Store'dan okunan (süresi dolmamış) anahtarlar: kid → çözülmüş anahtar
+    private Map<String, SigningKey> known = Map.of();
+    // JWKS adresi → o node'un yayınladığı kid → PublicKey
+    private final Map<String, Map<String, PublicKey>> peerKeys = new ConcurrentHashMap<>();
+    private final AtomicLong lastUnknownKidRefresh = new AtomicLong();
+    private final List<Runnable> keyRemovalListeners = new CopyOnWriteArrayList<>();
+
+    // Her senkronizasyonda yeniden hazırlanan, değiştirilemez görünümler
+    private volatile Map<String, PublicKey> verificationKeys = Map.of();
+    private volatile String jwksJson = "{\"keys\":[]}";
+
+    public JwtKeyRing(@Value("${jwt.keys.algorithm:ES256}") String algorithm,
+                      @Value("${jwt.keys.rotation-interval-ms:86400000}") long rotationIntervalMillis,
+                      @Value("${jwt.keys.overlap-ms:86400000}") long overlapMillis,
+                      @Value("${jwt.keys.activation-delay-ms:120000}") long activationDelayMillis,
+                      JwtKeyStore keyStore,
+                      LegacyHmac legacyHmac,
+                      @Value("${jwt.keys.peer-jwks-uris:}") List<String> peerJwksUris,
+                      @Value("${jwt.keys.peer-timeout:2s}") Duration peerTimeout) {
+        boolean eddsa = "EdDSA".equalsIgnoreCase(algorithm);
+        this.algorithm = eddsa ? Jwts.SIG.EdDSA : Jwts.SIG.ES256;
+        this.keyFactoryAlgorithm = eddsa ? "EdDSA" : "EC";
+        this.rotationInterval = Duration.ofMillis(rotationIntervalMillis);
+        this.overlap = Duration.ofMillis(overlapMillis);
+        this.activationDelay = Duration.ofMillis(activationDelayMillis);
+        this.keyStore = keyStore;
+        this.legacyKey = legacyHmac.enabled() ? Keys.hmacShaKeyFor(legacyHmac.secret().getBytes()) : null;
+        this.legacyCutoff = legacyHmac.cutoff();
+        if (legacyKey != null) {
+            log.warn("Accepting legacy HS256 tokens without kid until {}", legacyCutoff);
+        }
+        this.peerJwksUris = peerJwksUris.stream().filter(uri -> !uri.isBlank()).toList();
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(peerTimeout);
+        requestFactory.setReadTimeout(peerTimeout);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+
+        sync();
+    }
+
+    public SigningKey currentKey() {
+        return current;
+    }
+
+    /**
+     * Kid'siz HS256 token'ların kabul edildiği son an (legacy HMAC kapalıysa anlamsızdır).
+     */
+    public Instant legacyCutoff() {
+        return legacyCutoff;
+    }
+
+    /**
+     * Doğrulama anahtarlarından biri kaldırıldığında çağrılacak dinleyiciyi kaydeder.
+     */
+    public void onKeysRemoved(Runnable listener) {
+        keyRemovalListeners.add(listener);
+    }
+
+    public SignatureAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Yayınlanan JWKS dokümanı (sadece public anahtarlar).
+     */
+    public String jwksJson() {
+        return jwksJson;
+    }
+
+    /**
+     * Anahtarları store'dan okur; en yeni anahtar rotation-interval'dan eskiyse yenisini üretir.
+     * Diğer node'ların ürettiği anahtarlar da bu sayede doğrulamaya ve imzalamaya geçer.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.sync-interval-ms:30000}",
+            initialDelayString = "${jwt.keys.sync-interval-ms:30000}")
+    public synchronized void sync() {
+        Instant now = Instant.now();
+        List<JwtKeyStore.StoredKey> stored = keyStore.loadActive(algorithm.getId(), now);
+        if (stored.isEmpty() || !stored.getLast().createdAt().plus(rotationInterval).isAfter(now)) {
+            JwtKeyStore.StoredKey generated = generate(now);
+            keyStore.save(generated);
+            keyStore.deleteExpired(now);
+            log.info("Generated JWT signing key kid={}", generated.kid());
+            stored = keyStore.loadActive(algorithm.getId(), now);
+        }
+        load(stored, now);
+    }
+
+    /**
+     * Hemen yeni bir imzalama anahtarı üretir; önceki anahtarlar overlap süresi boyunca doğrulamada kalır.
+     */
+    public synchronized void rotate() {
+        Instant now = Instant.now();
+        JwtKeyStore.StoredKey generated = generate(now);
+        keyStore.save(generated);
+        load(keyStore.loadActive(algorithm.getId(), now), now);
+        log.info("Rotated JWT signing key, new kid={}, {} key(s) accepted", generated.kid(), known.size());
+    }
+
+    /**
+     * Diğer servislerin JWKS adreslerinden public anahtarları okur (istek başına zaman aşımlı).
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.peer-refresh-interval-ms:30000}")
+    public void refreshPeers() {
+        boolean changed = false;
+        for (String uri : peerJwksUris) {
+            try {
+                String json = restClient.get().uri(uri).retrieve().body(String.class);
+                JwkSet jwkSet = Jwks.setParser().build().parse(json);
+                Map<String, PublicKey> keys = new HashMap<>();
+                for (Jwk<?> jwk : jwkSet) {
+                    if (jwk.getId() != null && jwk.toKey() instanceof PublicKey publicKey) {
+                        keys.put(jwk.getId(), publicKey);
+                    }
+                }
+                // Node'un artık yayınlamadığı anahtarlar da bırakılır
+                Map<String, PublicKey> previous = peerKeys.put(uri, Map.copyOf(keys));
+                changed |= !keys.equals(previous);
+            } catch (RuntimeException e) {
+                log.warn("Could not read JWKS from {}: {}", uri, e.getMessage());
+            }
+        }
+        if (changed) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Parser için doğrulama anahtarını token header'ındaki kid ile bulur.
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            // Key ring öncesi üretilmiş HMAC token'lar (sadece geçiş süresi boyunca)
+            if (legacyKey != null && Jwts.SIG.HS256.getId().equals(header.getAlgorithm())
+                    && Instant.now().isBefore(legacyCutoff)) {
+                return legacyKey;
+            }
+            return null;
+        }
+
+        PublicKey key = verificationKeys.get(kid);
+        if (key == null) {
+            refreshInBackground();
+        }
+        return key;
+    }
+
+    /**
+     * Store'u ve peer'ları istek thread'i dışında yeniden okur (en fazla 5 saniyede bir).
+     */
+    private void refreshInBackground() {
+        long now = System.currentTimeMillis();
+        long last = lastUnknownKidRefresh.get();
+        if (now - last < UNKNOWN_KID_REFRESH_INTERVAL.toMillis() || !lastUnknownKidRefresh.compareAndSet(last, now)) {
+            return;
+        }
+        Thread.ofPlatform().daemon().name("jwt-key-refresh").start(() -> {
+            try {
+                sync();
+                refreshPeers();
+            } catch (RuntimeException e) {
+                log.warn("Could not refresh JWT verification keys", e);
+            }
+        });
+    }
+
+    private JwtKeyStore.StoredKey generate(Instant now) {
+        KeyPair keyPair = algorithm.keyPair().build();
+        String kid = Jwks.builder().key(keyPair.getPublic()).idFromThumbprint().build().getId();
+        return new JwtKeyStore.StoredKey(kid, algorithm.getId(),
+                keyPair.getPrivate().getEncoded(), keyPair.getPublic().getEncoded(),
+                now, now.plus(rotationInterval).plus(activationDelay).plus(overlap));
+    }
+
+    /**
+     * Store'daki anahtarları çözer ve imzalama anahtarını seçer: activation-delay'i dolmuş en yeni anahtar.
+     * Hiçbiri dolmadıysa mevcut anahtarla devam edilir; o da yoksa (ilk açılış) en yeni anahtar hemen kullanılır.
+     */
+    private void load(List<JwtKeyStore.StoredKey> stored, Instant now) {
+        Map<String, SigningKey> keys = new HashMap<>();
+        SigningKey newest = null;
+        SigningKey newestActive = null;
+        for (JwtKeyStore.StoredKey storedKey : stored) {
+            SigningKey key = known.containsKey(storedKey.kid()) ? known.get(storedKey.kid()) : decode(storedKey);
+            keys.put(key.kid(), key);
+            newest = key;
+            if (!storedKey.createdAt().plus(activationDelay).isAfter(now)) {
+                newestActive = key;
+            }
+        }
+        if (newest == null) {
+            throw new IllegalStateException("No JWT signing key available");
+        }
+        SigningKey signing = newestActive != null ? newestActive
+                : current != null && keys.containsKey(current.kid()) ? current : newest;
+        this.known = Map.copyOf(keys);
+        if (current == null || !current.kid().equals(signing.kid())) {
+            log.info("Signing JWTs with kid={}", signing.kid());
+        }
+        this.current = signing;
+        rebuild();
+    }
+
+    private SigningKey decode(JwtKeyStore.StoredKey stored) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm);
+            PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(stored.privateKey()));
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(stored.publicKey()));
+            PublicJwk<?> jwk = Jwks.builder()
+                    .key(publicKey)
+                    .id(stored.kid())
+                    .algorithm(algorithm.getId())
+                    .build();
+            return new SigningKey(stored.kid(), privateKey, publicKey, jwk);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not decode JWT signing key " + stored.kid(), e);
+        }
+    }
+
+    private synchronized void rebuild() {
+        Map<String, PublicKey> keys = new HashMap<>();
+        peerKeys.values().forEach(keys::putAll);
+        known.values().forEach(key -> keys.put(key.kid(), key.publicKey()));
+
+        boolean removed = !keys.keySet().containsAll(verificationKeys.keySet());
+        this.verificationKeys = Map.copyOf(keys);
+        this.jwksJson = known.values().stream()
+                .map(key -> Jwks.json(key.jwk()))
+                .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+        if (removed) {
+            log.info("JWT verification key(s) removed, {} key(s) accepted", keys.size());
+            keyRemovalListeners.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.akcadag.configuration;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  JwtKeyStore
+ * JwtKeyRing'in anahtarları kalıcı olarak sakladığı yer. Uygulamada veritabanı (JpaJwtKeyStore),
+ * testlerde ve benchmark'larda bellek içi (inMemory) kullanılır.
+ */
+public interface JwtKeyStore {
+
+    /**
+     * Saklanan anahtar: private anahtar PKCS#8, public anahtar X.509 kodlamasıyla.
+     */
+    record StoredKey(String kid, String algorithm, byte[] privateKey, byte[] publicKey,
+                     Instant createdAt, Instant expiresAt) {
+    }
+
+    /**
+     * Algoritmanın süresi dolmamış anahtarları, eskiden yeniye.
+     */
+    List<StoredKey> loadActive(String algorithm, Instant now);
+
+    void save(StoredKey key);
+
+    void deleteExpired(Instant now);
+
+    static JwtKeyStore inMemory() {
+        Map<String, StoredKey> keys = new ConcurrentHashMap<>();
+        return new JwtKeyStore() {
+            @Override
+            public List<StoredKey> loadActive(String algorithm, Instant now) {
+                return keys.values().stream()
+                        .filter(key -> key.algorithm().equals(algorithm) && key.expiresAt().isAfter(now))
+                        .sorted(Comparator.comparing(StoredKey::createdAt))
+                        .toList();
+            }
+
+            @Override
+            public void save(StoredKey key) {
+                keys.put(key.kid(), key);
+            }
+
+            @Override
+            public void deleteExpired(Instant now) {
+                keys.values().removeIf(key -> key.expiresAt().isBefore(now));
+            }
+        };
+    }
+}
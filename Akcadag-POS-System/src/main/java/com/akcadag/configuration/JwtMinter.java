@@ -0,0 +1,269 @@
+package com.akcadag.configuration;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ *  JwtMinter
+ * Access token'ları jjwt builder ve Jackson olmadan üretir; header ve payload jjwt'nin ürettiği
+ * token ile byte byte aynıdır (header: kid, alg; payload: jti, iat, exp, sub, rl ve varsa st).
+ * - Header her imzalama anahtarı için bir kez serileştirilip base64url olarak saklanır.
+ * - Payload ve token thread'e ait tamponlara doğrudan yazılır; Date, Map ve ara String oluşturulmaz.
+ * - Signature nesneleri thread başına tutulur ve anahtar değişmedikçe yeniden init edilmez.
+ *   ES256 imzası JCA'nın P1363 formatında (r||s, 64 byte) alınır, ayrıca DER → JOSE dönüşümü gerekmez.
+ * JSON kaçışı gerektiren (", \, kontrol karakteri) veya surrogate içeren subject'ler için canEncode false döner;
+ * bu token'lar JwtProvider'da jjwt ile üretilir.
+ */
+public final class JwtMinter {
+
+    private static final byte[] BASE64URL_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] JTI = ascii("{\"jti\":\"");
+    private static final byte[] IAT = ascii("\",\"iat\":");
+    private static final byte[] EXP = ascii(",\"exp\":");
+    private static final byte[] SUB = ascii(",\"sub\":\"");
+    private static final byte[] ROLES = ascii("\",\"" + JwtProvider.CLAIM_ROLES + "\":");
+    private static final byte[] STORE = ascii(",\"" + JwtProvider.CLAIM_STORE + "\":");
+
+    /**
+     * Bir imzalama anahtarı için hazırlanmış base64url header.
+     */
+    private record PreparedKey(JwtKeyRing.SigningKey key, byte[] encodedHeader) {
+    }
+
+    /**
+     * Thread'e ait tamponlar ve o thread'in son kullandığı Signature.
+     */
+    private static final class Scratch {
+        byte[] payload = new byte[256];
+        byte[] token = new byte[1024];
+        JwtKeyRing.SigningKey signingKey;
+        Signature signature;
+    }
+
+    private final SignatureAlgorithm algorithm;
+    private final String jcaAlgorithm;
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+    private volatile PreparedKey prepared;
+
+    public JwtMinter(SignatureAlgorithm algorithm) {
+        this.algorithm = algorithm;
+        this.jcaAlgorithm = algorithm == Jwts.SIG.ES256 ? "SHA256withECDSAinP1363Format" : "EdDSA";
+    }
+
+    /**
+     * Subject bu yoldan JSON kaçışı olmadan yazılabiliyorsa true.
+     */
+    public static boolean canEncode(String subject) {
+        for (int i = 0; i < subject.length(); i++) {
+            char c = subject.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\' || Character.isSurrogate(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * İmzalı compact JWT üretir.
+     * @param issuedAtMillis   iat (saniyeye yuvarlanır, jjwt ile aynı)
+     * @param expirationMillis exp (saniyeye yuvarlanır)
+     * @param storeId          st; null ise yazılmaz
+     */
+    public String mint(JwtKeyRing.SigningKey key, UUID jti, long issuedAtMillis, long expirationMillis,
+                       String subject, int roles, Long storeId) {
+        byte[] header = prepare(key).encodedHeader();
+        Scratch buffers = scratch.get();
+
+        int payloadLength = writePayload(buffers, jti, issuedAtMillis / 1000, expirationMillis / 1000,
+                subject, roles, storeId);
+
+        // header.payload → imzalanacak kısım token tamponuna yazılır
+        int signingInputLength = header.length + 1 + encodedLength(payloadLength);
+        byte[] token = buffers.token = ensureCapacity(buffers.token, signingInputLength + 1 + encodedLength(128), 0);
+        System.arraycopy(header, 0, token, 0, header.length);
+        token[header.length] = '.';
+        encode(buffers.payload, payloadLength, token, header.length + 1);
+
+        byte[] signature = sign(buffers, key, token, signingInputLength);
+
+        int total = signingInputLength + 1 + encodedLength(signature.length);
+        token = buffers.token = ensureCapacity(token, total, signingInputLength);
+        token[signingInputLength] = '.';
+        encode(signature, signature.length, token, signingInputLength + 1);
+
+        // Tüm karakterler ASCII; compact string'e doğrudan kopyalanır
+        return new String(token, 0, total, StandardCharsets.ISO_8859_1);
+    }
+
+    private byte[] sign(Scratch buffers, JwtKeyRing.SigningKey key, byte[] input, int length) {
+        try {
+            if (buffers.signingKey != key) {
+                if (buffers.signature == null) {
+                    buffers.signature = Signature.getInstance(jcaAlgorithm);
+                }
+                buffers.signature.initSign(key.privateKey());
+                buffers.signingKey = key;
+            }
+            // sign() sonrası Signature aynı anahtarla tekrar kullanılabilir duruma döner
+            buffers.signature.update(input, 0, length);
+            return buffers.signature.sign();
+        } catch (GeneralSecurityException e) {
+            // Yarım kalmış bir Signature bir sonraki çağrıda yeniden init edilir
+            buffers.signingKey = null;
+            throw new IllegalStateException("Could not sign JWT with " + jcaAlgorithm, e);
+        }
+    }
+
+    private PreparedKey prepare(JwtKeyRing.SigningKey key) {
+        PreparedKey current = prepared;
+        if (current != null && current.key() == key) {
+            return current;
+        }
+        // Anahtar rotation'ında bir kez çalışır
+        String headerJson = "{\"kid\":\"" + key.kid() + "\",\"alg\":\"" + algorithm.getId() + "\"}";
+        current = new PreparedKey(key,
+                Base64.getUrlEncoder().withoutPadding().encode(headerJson.getBytes(StandardCharsets.UTF_8)));
+        prepared = current;
+        return current;
+    }
+
+    private static int writePayload(Scratch buffers, UUID jti, long issuedAt, long expiration,
+                                    String subject, int roles, Long storeId) {
+        // Sabit kısımlar + sayılar (en fazla 20 hane) + email'in UTF-8 hali (karakter başına en fazla 3 byte)
+        int maxLength = JTI.length + 36 + IAT.length + 20 + EXP.length + 20 + SUB.length
+                + subject.length() * 3 + ROLES.length + 11 + STORE.length + 20 + 1;
+        byte[] out = buffers.payload = ensureCapacity(buffers.payload, maxLength, 0);
+
+        int pos = put(out, 0, JTI);
+        pos = writeUuid(out, pos, jti);
+        pos = put(out, pos, IAT);
+        pos = writeLong(out, pos, issuedAt);
+        pos = put(out, pos, EXP);
+        pos = writeLong(out, pos, expiration);
+        pos = put(out, pos, SUB);
+        pos = writeUtf8(out, pos, subject);
+        pos = put(out, pos, ROLES);
+        pos = writeLong(out, pos, roles);
+        if (storeId != null) {
+            pos = put(out, pos, STORE);
+            pos = writeLong(out, pos, storeId);
+        }
+        out[pos++] = '}';
+        return pos;
+    }
+
+    private static int writeUuid(byte[] out, int pos, UUID uuid) {
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        pos = writeHex(out, pos, msb >>> 32, 8);
+        out[pos++] = '-';
+        pos = writeHex(out, pos, msb >>> 16, 4);
+        out[pos++] = '-';
+        pos = writeHex(out, pos, msb, 4);
+        out[pos++] = '-';
+        pos = writeHex(out, pos, lsb >>> 48, 4);
+        out[pos++] = '-';
+        return writeHex(out, pos, lsb, 12);
+    }
+
+    private static int writeHex(byte[] out, int pos, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            out[pos + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        return pos + digits;
+    }
+
+    private static int writeLong(byte[] out, int pos, long value) {
+        if (value < 0) {
+            out[pos++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            out[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+
+    private static int writeUtf8(byte[] out, int pos, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                out[pos++] = (byte) (0xC0 | c >> 6);
+                out[pos++] = (byte) (0x80 | c & 0x3F);
+            } else {
+                out[pos++] = (byte) (0xE0 | c >> 12);
+                out[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+                out[pos++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * src[0, length) → dst[offset...] (base64url, padding yok).
+     */
+    private static void encode(byte[] src, int length, byte[] dst, int offset) {
+        int i = 0;
+        int pos = offset;
+        for (; i + 3 <= length; i += 3) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | src[i + 2] & 0xFF;
+            dst[pos++] = BASE64URL_ALPHABET[bits >>> 18];
+            dst[pos++] = BASE64URL_ALPHABET[bits >>> 12 & 0x3F];
+            dst[pos++] = BASE64URL_ALPHABET[bits >>> 6 & 0x3F];
+            dst[pos++] = BASE64URL_ALPHABET[bits & 0x3F];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xFF) << 16;
+            dst[pos++] = BASE64URL_ALPHABET[bits >>> 18];
+            dst[pos] = BASE64URL_ALPHABET[bits >>> 12 & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            dst[pos++] = BASE64URL_ALPHABET[bits >>> 18];
+            dst[pos++] = BASE64URL_ALPHABET[bits >>> 12 & 0x3F];
+            dst[pos] = BASE64URL_ALPHABET[bits >>> 6 & 0x3F];
+        }
+    }
+
+    private static int encodedLength(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    private static int put(byte[] out, int pos, byte[] constant) {
+        System.arraycopy(constant, 0, out, pos, constant.length);
+        return pos + constant.length;
+    }
+
+    /**
+     * Tampon yetmiyorsa büyütür, ilk keep byte'ı korur.
+     */
+    private static byte[] ensureCapacity(byte[] buffer, int length, int keep) {
+        if (buffer.length >= length) {
+            return buffer;
+        }
+        byte[] grown = new byte[Math.max(length, buffer.length * 2)];
+        System.arraycopy(buffer, 0, grown, 0, keep);
+        return grown;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,29 @@
+package com.akcadag.configuration;
+
+import java.security.Principal;
+
+/**
+ *  Doğrulanmış JWT'nin principal'ı: email, rol maskesi, derlenmiş izin maskesi ve mağaza id'si
+ * (zincir genelindeki kullanıcılar için null).
+ * Token cache'te tutulduğu için aynı token ile gelen isteklerde tekrar hesaplanmaz.
+ */
+public record JwtPrincipal(String email, int roleMask, long permissions, Long storeId) implements Principal {
+
+    public static JwtPrincipal of(String email, int roleMask, Long storeId) {
+        return new JwtPrincipal(email, roleMask, RolePermissions.permissionsOf(roleMask), storeId);
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public boolean has(long required) {
+        return RolePermissions.grants(permissions, required);
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
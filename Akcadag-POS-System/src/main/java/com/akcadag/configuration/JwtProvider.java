@@ -1,24 +1,59 @@
 package com.akcadag.configuration;
 
+import com.akcadag.models.UserPrincipal;       // Login sırasında yüklenen kullanıcı (mağaza id'si için)
 import io.jsonwebtoken.Claims;                 // JWT içindeki payload verilerini almak için kullanılır
+import io.jsonwebtoken.Jws;                    // İmzası doğrulanmış token: header + payload
+import io.jsonwebtoken.JwtParser;              // İmzalı JWT'leri doğrulayan, thread-safe parser
 import io.jsonwebtoken.Jwts;                   // JWT oluşturmak ve doğrulamak için ana sınıf
-import io.jsonwebtoken.security.Keys;          // Gizli anahtar (Secret Key) oluşturmak için kullanılır
 import org.springframework.security.core.Authentication;  // Kullanıcı doğrulama bilgilerini temsil eder
-import org.springframework.security.core.GrantedAuthority; // Kullanıcının rollerini temsil eder
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.AuthorityUtils; // Eski format roller string → GrantedAuthority listesi
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey; // JWT imzalama için kullanılan gizli anahtar türü
-import java.util.Collection;
+import java.time.Duration;
 import java.util.Date;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.UUID;
 
 @Service
 public class JwtProvider {
 
-    //  JWT imzalamak için kullanılan SecretKey.
-    // JwtConstant.JWT_SECRET → gizli anahtar değerini içerir (örneğin 32 karakterlik bir string)
-    static SecretKey key = Keys.hmacShaKeyFor(JwtConstant.JWT_SECRET.getBytes());
+    //  Kısa claim isimleri: "sub" → email, "rl" → rol bitmask'i (bkz. RoleAuthorities), "st" → mağaza id'si
+    public static final String CLAIM_ROLES = "rl";
+    public static final String CLAIM_STORE = "st";
+
+    //  Eski format claim'leri. Eski token'lar en fazla bir token ömrü (24 saat) boyunca
+    // kabul edilir; bu süre dolduktan sonra legacy okuma kaldırılabilir.
+    private static final String LEGACY_CLAIM_EMAIL = "email";
+    private static final String LEGACY_CLAIM_AUTHORITIES = "authorities";
+
+    //  İmzalama ve doğrulama anahtarlarını yöneten key ring (ES256 / EdDSA, kid ile)
+    private final JwtKeyRing keyRing;
+
+    //  Tüm uygulamada paylaşılan parser. JwtParser immutable ve thread-safe olduğu için
+    // her istekte yeniden oluşturmaya gerek yoktur. Doğrulama anahtarı token'ın kid header'ına göre bulunur.
+    private final JwtParser parser;
+
+    //  Access token ömrü. Kısa tutulur, süresi dolunca /auth/refresh ile yenilenir.
+    private final Duration accessTokenTtl;
+
+    //  auth.jwt.generate timer'ı
+    private final AuthMetrics metrics;
+
+    //  jjwt builder'ı yerine kullanılan, aynı token'ı daha az allocation ile üreten yol (null → kapalı)
+    private final JwtMinter minter;
+
+    public JwtProvider(JwtKeyRing keyRing,
+                       @Value("${jwt.access-token.ttl:15m}") Duration accessTokenTtl,
+                       @Value("${jwt.minting.fast-path:true}") boolean fastPath,
+                       AuthMetrics metrics) {
+        this.keyRing = keyRing;
+        this.accessTokenTtl = accessTokenTtl;
+        this.metrics = metrics;
+        this.minter = fastPath ? new JwtMinter(keyRing.algorithm()) : null;
+        this.parser = Jwts.parser()
+                .keyLocator(keyRing) // kid → public key
+                .build();
+    }
 
     /**
      *  JWT Token oluşturmak için kullanılan metod.
@@ -26,20 +61,50 @@ public class JwtProvider {
      * @return Kullanıcıya özel JWT Token döndürür
      */
     public String generateToken(Authentication authentication) {
+        return generateToken(authentication, storeIdOf(authentication));
+    }
 
-        // Kullanıcının rollerini (authorities) alıyoruz
-        Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
+    /**
+     *  Mağaza id'si bilinen kullanıcı için token (signup, refresh). storeId null ise "st" claim'i yazılmaz.
+     */
+    public String generateToken(Authentication authentication, Long storeId) {
+        return metrics.jwtGenerate().record(() -> buildToken(authentication, storeId));
+    }
+
+    private static Long storeIdOf(Authentication authentication) {
+        return switch (authentication.getPrincipal()) {
+            case UserPrincipal principal -> principal.getUser().storeId(); // login
+            case JwtPrincipal principal -> principal.storeId();           // mevcut token ile gelen istek
+            case null, default -> null;
+        };
+    }
 
-        // Roller tek bir string halinde virgülle ayrılarak hazırlanıyor
-        String roles = populateAuthorities(authorities);
+    private String buildToken(Authentication authentication, Long storeId) {
+
+        // Kullanıcının rolleri tek bir sayıya (bitmask) çevriliyor
+        int roles = RoleAuthorities.maskOf(authentication.getAuthorities());
+
+        // Aktif imzalama anahtarı
+        JwtKeyRing.SigningKey signingKey = keyRing.currentKey();
+        long now = System.currentTimeMillis();
+        UUID jti = TokenIds.newId(now); // jti → token tek başına iptal edilebilsin (logout); üretilme zamanını ms olarak taşır
+        String subject = authentication.getName();
+
+        //  Hızlı yol: sabit header + doğrudan yazılan payload, thread başına Signature
+        if (minter != null && JwtMinter.canEncode(subject)) {
+            return minter.mint(signingKey, jti, now, now + accessTokenTtl.toMillis(), subject, roles, storeId);
+        }
 
         // JWT oluşturuluyor
         return Jwts.builder()
-                .issuedAt(new Date()) // Token'ın oluşturulma zamanı
-                .expiration(new Date(new Date().getTime() + 86400000)) // Token geçerlilik süresi → 1 gün (24 saat)
-                .claim("email", authentication.getName()) // JWT içerisine kullanıcının email bilgisini ekliyoruz
-                .claim("authorities", roles) // JWT içerisine kullanıcının rollerini ekliyoruz
-                .signWith(key) // Token'ı SecretKey ile imzalıyoruz
+                .header().keyId(signingKey.kid()).and() // Doğrulayıcılar anahtarı kid ile bulur
+                .id(jti.toString())
+                .issuedAt(new Date(now)) // Token'ın oluşturulma zamanı
+                .expiration(new Date(now + accessTokenTtl.toMillis())) // Token geçerlilik süresi → jwt.access-token.ttl
+                .subject(subject) // JWT içerisine kullanıcının email bilgisini ekliyoruz
+                .claim(CLAIM_ROLES, roles) // JWT içerisine kullanıcının rollerini (bitmask) ekliyoruz
+                .claim(CLAIM_STORE, storeId) // Kullanıcının mağazası (null ise claim eklenmez)
+                .signWith(signingKey.privateKey(), keyRing.algorithm()) // Token'ı private key ile imzalıyoruz
                 .compact(); // Token'ı oluştur ve String olarak döndür
     }
 
@@ -54,29 +119,60 @@ public class JwtProvider {
         jwt = jwt.substring(7);
 
         // JWT içindeki verileri (claims) almak için parsing işlemi
-        Claims claims = Jwts.parser()
-                .verifyWith(key) // Token doğrulaması için SecretKey kullanıyoruz
-                .build()
-                .parseSignedClaims(jwt) // Token'ı parse ediyoruz
-                .getPayload(); // Payload kısmını alıyoruz
+        Claims claims = parseClaims(jwt);
 
         // "email" bilgisini claim'lerden çekiyoruz
-        return String.valueOf(claims.get("email"));
+        return getEmail(claims);
     }
 
     /**
-     *  Kullanıcının rollerini (authorities) virgülle ayrılmış bir string haline dönüştürür.
-     * Örneğin: ["ROLE_ADMIN", "ROLE_USER"] → "ROLE_ADMIN,ROLE_USER"
+     *  Token'daki email (sub). Eski formatta "email" claim'i okunur.
      */
-    private String populateAuthorities(Collection<? extends GrantedAuthority> authorities) {
-        Set<String> auths = new HashSet<>();
+    public String getEmail(Claims claims) {
+        String subject = claims.getSubject();
+        return subject != null ? subject : String.valueOf(claims.get(LEGACY_CLAIM_EMAIL));
+    }
 
-        // Kullanıcının sahip olduğu tüm rolleri Set içerisine ekliyoruz
-        for (GrantedAuthority authority : authorities) {
-            auths.add(authority.getAuthority());
+    /**
+     *  Token'daki rol bitmask'i. Eski formatta virgülle ayrılmış "authorities" claim'i çevrilir.
+     */
+    public int getRoleMask(Claims claims) {
+        Integer mask = claims.get(CLAIM_ROLES, Integer.class);
+        if (mask != null) {
+            return mask;
         }
+        Object legacy = claims.get(LEGACY_CLAIM_AUTHORITIES);
+        if (legacy == null) {
+            return 0;
+        }
+        return RoleAuthorities.maskOf(
+                AuthorityUtils.commaSeparatedStringToAuthorityList(String.valueOf(legacy)));
+    }
+
+    /**
+     *  Token'daki mağaza id'si; zincir genelindeki kullanıcılar ve eski token'lar için null.
+     */
+    public Long getStoreId(Claims claims) {
+        Number storeId = claims.get(CLAIM_STORE, Number.class);
+        return storeId == null ? null : storeId.longValue();
+    }
 
-        // Roller virgülle ayrılarak string'e dönüştürülüyor
-        return String.join(",", auths);
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    /**
+     *  Token'ın imzasını doğrular ve payload'ı döndürür.
+     * İmza, süre veya format hatalıysa jjwt exception'ı fırlatılır.
+     */
+    public Claims parseClaims(String jwt) {
+        return parseSignedClaims(jwt).getPayload(); // Payload kısmını alıyoruz
+    }
+
+    /**
+     *  parseClaims ile aynı doğrulama; header'daki kid de gerektiğinde (JwtTokenCache) kullanılır.
+     */
+    public Jws<Claims> parseSignedClaims(String jwt) {
+        return parser.parseSignedClaims(jwt); // Token'ı parse ediyoruz
     }
 }
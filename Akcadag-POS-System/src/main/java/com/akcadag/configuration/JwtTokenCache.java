@@ -0,0 +1,131 @@
+package com.akcadag.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ *  JwtTokenCache
+ * Daha önce doğrulanmış JWT'leri hazır Authentication nesneleriyle birlikte saklar.
+ * Aynı token'ın her istekte tekrar imza kontrolünden ve JSON parse işleminden geçmesini önler.
+ * Anahtar olarak token'ın SHA-256 özeti kullanılır, kayıt token'ın "exp" zamanında silinir.
+ * Cache'ten dönen token JwtKeyRing.locate'ten geçmediği için:
+ * - kid'siz (legacy HS256) token'lar en geç legacy cutoff anında düşer,
+ * - key ring'den bir doğrulama anahtarı kaldırıldığında cache tamamen boşaltılır.
+ * İsabet/ıskalama sayıları auth.jwt.cache{result=hit|miss} olarak yayınlanır.
+ */
+@Component
+public class JwtTokenCache {
+
+    /**
+     * Doğrulanmış token: hazır Authentication, rol listesi, imzalayan kid, jti, üretilme ve son geçerlilik zamanı.
+     * İptal kontrolü (TokenRevocationIndex) cache'ten sonra her istekte bu alanlarla yapılır.
+     */
+    public record VerifiedToken(Authentication authentication,
+                                List<GrantedAuthority> authorities,
+                                String keyId,
+                                String tokenId,
+                                Instant issuedAt,
+                                Instant expiresAt) {
+    }
+
+    private final boolean enabled;
+    private final Instant legacyCutoff;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JwtTokenCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+                         @Value("${jwt.cache.max-size:10000}") long maxSize,
+                         JwtKeyRing keyRing,
+                         MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.legacyCutoff = keyRing.legacyCutoff();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                // Her kayıt kendi token'ının son geçerlilik zamanında düşer (legacy token'larda cutoff'ta)
+                .expireAfter(Expiry.creating((ByteBuffer key, VerifiedToken token) ->
+                        Duration.between(Instant.now(), validUntil(token))))
+                .build();
+        keyRing.onKeysRemoved(this::invalidateAll);
+
+        FunctionCounter.builder("auth.jwt.cache", hits, LongAdder::sum)
+                .description("JwtValidator token cache isabetleri")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.jwt.cache", misses, LongAdder::sum)
+                .description("JwtValidator token cache ıskalamaları (imza doğrulaması yapılan istekler)")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Token cache'te varsa hazır sonucu döner, yoksa verifier ile doğrulayıp cache'e ekler.
+     * Doğrulama hatası (imza, süre vb.) olduğu gibi çağırana fırlatılır ve cache'e yazılmaz.
+     */
+    public VerifiedToken get(String jwt, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            misses.increment();
+            return verifier.apply(jwt);
+        }
+
+        ByteBuffer key = digest(jwt);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && validUntil(cached).isAfter(Instant.now())) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        VerifiedToken verified = verifier.apply(jwt);
+        cache.put(key, verified);
+        return verified;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Kid'siz token'lar key ring'e göre legacy cutoff'tan sonra kabul edilmez; cache de daha uzun tutmaz.
+     */
+    private Instant validUntil(VerifiedToken token) {
+        if (token.keyId() == null && legacyCutoff.isBefore(token.expiresAt())) {
+            return legacyCutoff;
+        }
+        return token.expiresAt();
+    }
+
+    private static ByteBuffer digest(String jwt) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(jwt.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.akcadag.configuration;
 
+import com.akcadag.audit.AuditEventType;
+import com.akcadag.audit.AuditJournal;
+import com.akcadag.audit.AuditReason;
 import io.jsonwebtoken.Claims;                       // JWT içindeki payload verilerini almak için kullanılır
-import io.jsonwebtoken.Jwts;                         // JWT oluşturmak ve doğrulamak için ana sınıf
-import io.jsonwebtoken.security.Keys;                // Gizli anahtar (Secret Key) oluşturmak için kullanılır
+import io.jsonwebtoken.ExpiredJwtException;          // Süresi dolmuş token
+import io.jsonwebtoken.Jws;                          // İmzası doğrulanmış token (header + payload)
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,21 +14,39 @@ import org.springframework.security.authentication.BadCredentialsException; // H
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken; // Spring Security Authentication objesi
 import org.springframework.security.core.Authentication; // Doğrulanan kullanıcıyı temsil eder
 import org.springframework.security.core.GrantedAuthority; // Kullanıcının rollerini temsil eder
-import org.springframework.security.core.authority.AuthorityUtils; // Roller string → GrantedAuthority listesine çevrilir
 import org.springframework.security.core.context.SecurityContextHolder; // Spring Security Context’e erişim sağlar
 import org.springframework.web.filter.OncePerRequestFilter; // Her istekte bir kez çalıştırılan özel filtre
 
-import javax.crypto.SecretKey; // JWT doğrulamak için kullanılan SecretKey
 import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 
 /**
  *  JwtValidator
  * Bu sınıf Spring Security'nin "custom filter"ıdır.
  * Her HTTP isteğinde gelen JWT'yi doğrular, geçerliyse Authentication oluşturur.
+ * Daha önce doğrulanmış token'lar JwtTokenCache üzerinden tekrar parse edilmeden kullanılır.
  */
 public class JwtValidator extends OncePerRequestFilter {
 
+    private final JwtTokenCache tokenCache;
+    private final JwtProvider jwtProvider;
+    private final TokenRevocationIndex revocationIndex;
+    private final AuthMetrics metrics;
+    private final AuditJournal auditJournal;
+
+    public JwtValidator(JwtTokenCache tokenCache,
+                        JwtProvider jwtProvider,
+                        TokenRevocationIndex revocationIndex,
+                        AuthMetrics metrics,
+                        AuditJournal auditJournal) {
+        this.tokenCache = tokenCache;
+        this.jwtProvider = jwtProvider;
+        this.revocationIndex = revocationIndex;
+        this.metrics = metrics;
+        this.auditJournal = auditJournal;
+    }
+
     /**
      *  Her HTTP isteğinde bir kez çalışır.
      * @param request → Gelen HTTP isteği
@@ -45,41 +66,79 @@ public class JwtValidator extends OncePerRequestFilter {
         if (jwt != null) {
             jwt = jwt.substring(7); // "Bearer " kısmını atlıyoruz
 
+            long start = System.nanoTime();
+            String result = AuthMetrics.RESULT_OK;
+            String email = null;
             try {
-                //  Token'ı doğrulamak için SecretKey oluşturuluyor
-                SecretKey key = Keys.hmacShaKeyFor(JwtConstant.JWT_SECRET.getBytes());
-
-                //  Token çözülüyor ve claim'ler alınıyor
-                Claims claims = Jwts.parser()
-                        .verifyWith(key)    // Token imzasını SecretKey ile doğrula
-                        .build()
-                        .parseSignedClaims(jwt) // JWT parse ediliyor
-                        .getPayload(); // Payload kısmını alıyoruz
-
-                //  Token içindeki kullanıcı email bilgisi alınıyor
-                String email = String.valueOf(claims.get("email"));
+                //  Token cache'ten alınır, yoksa doğrulanıp cache'e eklenir
+                JwtTokenCache.VerifiedToken token = tokenCache.get(jwt, this::verify);
+                Authentication auth = token.authentication();
+                email = auth.getName();
 
-                //  Token içindeki kullanıcı rolleri (authorities) alınıyor
-                String authorities = String.valueOf(claims.get("authorities"));
-
-                //  Roller, GrantedAuthority listesine çevriliyor
-                List<GrantedAuthority> auths =
-                        AuthorityUtils.commaSeparatedStringToAuthorityList(authorities);
-
-                //  Authentication nesnesi oluşturuluyor
-                Authentication auth =
-                        new UsernamePasswordAuthenticationToken(email, null, auths);
+                //  İptal edilmiş token (logout / zorla çıkış) bellekteki indeksten kontrol edilir
+                if (revocationIndex.isRevoked(token.tokenId(), auth.getName(), token.issuedAt())) {
+                    result = AuthMetrics.RESULT_REVOKED;
+                    throw new BadCredentialsException("Token revoked");
+                }
 
                 //  Authentication nesnesi SecurityContext’e ekleniyor
                 SecurityContextHolder.getContext().setAuthentication(auth);
 
+            } catch (ExpiredJwtException e) {
+                result = AuthMetrics.RESULT_EXPIRED;
+                throw new BadCredentialsException("Invalid JWT...");
             } catch (Exception e) {
                 // Token geçersiz, süresi dolmuş veya hatalıysa hata fırlatılır
+                if (result.equals(AuthMetrics.RESULT_OK)) {
+                    result = AuthMetrics.RESULT_INVALID;
+                }
                 throw new BadCredentialsException("Invalid JWT...");
+            } finally {
+                //  Doğrulama süresi ve sonucu (ok / invalid / expired / revoked)
+                metrics.recordJwtVerification(System.nanoTime() - start, result);
+                //  Reddedilen token'lar audit journal'a yazılır (request thread'i beklemez)
+                if (!result.equals(AuthMetrics.RESULT_OK)) {
+                    auditJournal.record(AuditEventType.TOKEN_REJECTED, rejectReason(result), email,
+                            request.getRemoteAddr());
+                }
             }
         }
 
         //  Filtre zincirine devam et → diğer filtreleri çalıştır
         filterChain.doFilter(request, response);
     }
+
+    private static AuditReason rejectReason(String result) {
+        return switch (result) {
+            case AuthMetrics.RESULT_EXPIRED -> AuditReason.TOKEN_EXPIRED;
+            case AuthMetrics.RESULT_REVOKED -> AuditReason.TOKEN_REVOKED;
+            default -> AuditReason.TOKEN_INVALID;
+        };
+    }
+
+    /**
+     *  Token'ın imzasını paylaşılan parser ile doğrular ve hazır Authentication üretir.
+     */
+    private JwtTokenCache.VerifiedToken verify(String jwt) {
+        //  Token çözülüyor ve claim'ler alınıyor
+        Jws<Claims> jws = jwtProvider.parseSignedClaims(jwt); // JWT parse ediliyor, imza kid'e göre kontrol ediliyor
+        Claims claims = jws.getPayload();
+
+        //  Token içindeki kullanıcı email bilgisi alınıyor
+        String email = jwtProvider.getEmail(claims);
+
+        //  Roller, bitmask için önceden hazırlanmış değiştirilemez listeden alınıyor
+        int roleMask = jwtProvider.getRoleMask(claims);
+        List<GrantedAuthority> auths = RoleAuthorities.authoritiesOf(roleMask);
+
+        //  Principal, derlenmiş izin maskesini ve mağazayı taşır; yetki kontrolünde tekrar hesaplanmaz
+        Authentication auth = new UsernamePasswordAuthenticationToken(
+                JwtPrincipal.of(email, roleMask, jwtProvider.getStoreId(claims)), null, auths);
+
+        //  Üretilme zamanı jti'den milisaniye hassasiyetinde okunur (eski token'larda iat, o da yoksa EPOCH)
+        Instant issuedAt = TokenIds.issuedAt(claims.getId(), claims.getIssuedAt());
+
+        return new JwtTokenCache.VerifiedToken(auth, auths, jws.getHeader().getKeyId(), claims.getId(), issuedAt,
+                claims.getExpiration().toInstant());
+    }
 }
@@ -0,0 +1,34 @@
+package com.akcadag.configuration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ *  LegacyHmac
+ * Key ring öncesi (kid'siz, HS256) token'ların geçiş dönemi ayarları.
+ * - Varsayılan olarak kapalıdır; açılsa bile secret config'ten (ortam değişkeni) okunmalıdır.
+ * - Kabul, jwt.keys.legacy-hmac.until anına kadar sürer; verilmezse açılıştan itibaren eski
+ *   token'ların ömrü kadar (jwt.keys.legacy-hmac.token-ttl, eski sürümde 24 saat). Deploy'dan hemen
+ *   önce üretilmiş bir eski token bu süre sonunda kendiliğinden dolar, oturumlar erken kesilmez.
+ */
+@Component
+public record LegacyHmac(boolean enabled, String secret, Instant cutoff) {
+
+    public static final LegacyHmac DISABLED = new LegacyHmac(false, null, Instant.EPOCH);
+
+    @Autowired
+    public LegacyHmac(@Value("${jwt.keys.accept-legacy-hmac:false}") boolean accept,
+                      @Value("${jwt.keys.legacy-hmac.secret:}") String secret,
+                      @Value("${jwt.keys.legacy-hmac.until:}") String until,
+                      @Value("${jwt.keys.legacy-hmac.token-ttl:24h}") Duration legacyTokenTtl) {
+        this(accept && !secret.isBlank(), secret,
+                until.isBlank() ? Instant.now().plus(legacyTokenTtl) : Instant.parse(until));
+        if (accept && secret.isBlank()) {
+            throw new IllegalStateException("jwt.keys.accept-legacy-hmac=true requires jwt.keys.legacy-hmac.secret");
+        }
+    }
+}
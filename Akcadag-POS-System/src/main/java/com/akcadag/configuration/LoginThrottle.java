@@ -0,0 +1,136 @@
+package com.akcadag.configuration;
+
+import com.akcadag.audit.AuditEventType;
+import com.akcadag.audit.AuditJournal;
+import com.akcadag.audit.AuditReason;
+import com.akcadag.exceptions.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  LoginThrottle
+ * Login denemelerini email ve istemci IP'si başına token bucket ile sınırlar.
+ * Kontrol, BCrypt ve veritabanı sorgusundan önce controller'da yapılır; reddedilen deneme
+ * mikro saniyeler içinde 429 + Retry-After ile döner.
+ * - Her bucket tek bir AtomicLong'dur (GCRA: "bir sonraki token'ın hazır olacağı zaman"),
+ *   güncelleme CAS ile yapılır, kilit yoktur.
+ * - Bucket'lar Caffeine cache'te tutulur (striped, boyut sınırlı). Bucket tamamen dolduğu
+ *   süre boyunca kullanılmazsa silinir; dolu bir bucket ile yeni bucket arasında fark yoktur.
+ * - Reddedilen deneme hiçbir bucket'tan token harcamaz: email bucket'ı reddederse IP bucket'ına
+ *   dokunulmaz, IP bucket'ı reddederse email'den alınan token geri verilir. Böylece tek bir
+ *   hesaba yapılan deneme yağmuru aynı mağazadaki diğer kasaların IP kotasını tüketmez.
+ * - IP, proxy arkasında X-Forwarded-For'dan çözülmüş istemci adresidir (server.forward-headers-strategy).
+ */
+@Component
+public class LoginThrottle {
+
+    private final boolean enabled;
+    private final Limiter byEmail;
+    private final Limiter byIp;
+    private final AuditJournal auditJournal;
+
+    public LoginThrottle(@Value("${auth.login-throttle.enabled:true}") boolean enabled,
+                         @Value("${auth.login-throttle.email.capacity:5}") int emailCapacity,
+                         @Value("${auth.login-throttle.email.refill-period:1m}") Duration emailRefillPeriod,
+                         @Value("${auth.login-throttle.ip.capacity:30}") int ipCapacity,
+                         @Value("${auth.login-throttle.ip.refill-period:1m}") Duration ipRefillPeriod,
+                         @Value("${auth.login-throttle.max-keys:100000}") long maxKeys,
+                         MeterRegistry meterRegistry,
+                         AuditJournal auditJournal) {
+        this.enabled = enabled;
+        this.auditJournal = auditJournal;
+        this.byEmail = new Limiter("email", emailCapacity, emailRefillPeriod, maxKeys, meterRegistry);
+        this.byIp = new Limiter("ip", ipCapacity, ipRefillPeriod, maxKeys, meterRegistry);
+    }
+
+    /**
+     * Login denemesi için email ve IP bucket'larından birer token alır; ikisi de uygun değilse hiçbiri harcanmaz.
+     * @throws TooManyRequestsException bucket'lardan biri boşsa
+     */
+    public void check(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        String emailKey = email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+        try {
+            if (emailKey != null) {
+                byEmail.acquire(emailKey, now);
+            }
+            if (clientIp != null) {
+                try {
+                    byIp.acquire(clientIp, now);
+                } catch (TooManyRequestsException e) {
+                    if (emailKey != null) {
+                        byEmail.refund(emailKey);
+                    }
+                    throw e;
+                }
+            }
+        } catch (TooManyRequestsException e) {
+            auditJournal.record(AuditEventType.LOGIN_FAILURE, AuditReason.THROTTLED, email, clientIp);
+            throw e;
+        }
+    }
+
+    /**
+     * Tek bir anahtar türü (email veya IP) için bucket'lar.
+     * capacity kadar deneme art arda yapılabilir, sonra her refillPeriod / capacity sürede bir token eklenir.
+     */
+    private static final class Limiter {
+
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final Cache<String, AtomicLong> buckets;
+        private final Counter rejected;
+
+        Limiter(String name, int capacity, Duration refillPeriod, long maxKeys, MeterRegistry meterRegistry) {
+            this.intervalNanos = refillPeriod.toNanos() / capacity;
+            this.burstNanos = intervalNanos * (capacity - 1);
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(refillPeriod)
+                    .build();
+            this.rejected = Counter.builder("auth.login.throttled")
+                    .tag("key", name)
+                    .description("Login throttle tarafından reddedilen denemeler")
+                    .register(meterRegistry);
+        }
+
+        void acquire(String key, long now) {
+            AtomicLong bucket = buckets.get(key, k -> new AtomicLong(now));
+            while (true) {
+                long readyAt = bucket.get();
+                long next = Math.max(readyAt, now);
+                long wait = next - now - burstNanos;
+                if (wait > 0) {
+                    rejected.increment();
+                    throw new TooManyRequestsException("Too many login attempts, please try again later",
+                            Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1)));
+                }
+                if (bucket.compareAndSet(readyAt, next + intervalNanos)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * acquire ile alınan token'ı geri verir (diğer bucket reddettiğinde).
+         */
+        void refund(String key) {
+            AtomicLong bucket = buckets.getIfPresent(key);
+            if (bucket != null) {
+                bucket.addAndGet(-intervalNanos);
+            }
+        }
+    }
+}
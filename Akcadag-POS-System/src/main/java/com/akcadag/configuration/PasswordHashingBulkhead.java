@@ -0,0 +1,159 @@
+package com.akcadag.configuration;
+
+import com.akcadag.exceptions.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ *  PasswordHashingBulkhead
+ * BCrypt hash ve doğrulama işlemlerini Tomcat request thread'leri yerine
+ * sınırlı boyutlu ayrı bir worker havuzunda çalıştırır.
+ * Böylece yoğun login anlarında sadece JWT ile gelen ucuz istekler CPU için beklemez.
+ * Kuyrukta çok bekleyen istekler işlenmeden ServiceBusyException (503) ile geri çevrilir.
+ */
+@Component
+public class PasswordHashingBulkhead implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final long queueTimeoutNanos;
+    private final long retryAfterSeconds;
+
+    private final Timer waitTimer;
+    private final Counter queueFullRejections;
+    private final Counter deadlineRejections;
+
+    public PasswordHashingBulkhead(@Value("${auth.hashing.pool-size:0}") int poolSize,
+                                   @Value("${auth.hashing.queue-capacity:200}") int queueCapacity,
+                                   @Value("${auth.hashing.queue-timeout:2s}") Duration queueTimeout,
+                                   MeterRegistry meterRegistry) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bcrypt-worker-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.retryAfterSeconds = Math.max(1, queueTimeout.toSeconds());
+
+        Gauge.builder("auth.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("BCrypt işi bekleyen kuyruk uzunluğu")
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Şu anda hash hesaplayan worker sayısı")
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.pool.size", executor, ThreadPoolExecutor::getMaximumPoolSize)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.hashing.wait")
+                .description("BCrypt işinin kuyrukta bekleme süresi")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.queueFullRejections = Counter.builder("auth.hashing.rejected")
+                .tag("reason", "queue-full")
+                .register(meterRegistry);
+        this.deadlineRejections = Counter.builder("auth.hashing.rejected")
+                .tag("reason", "deadline")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Verilen işi hashing havuzunda çalıştırır ve sonucunu bekler.
+     * @throws ServiceBusyException kuyruk doluysa veya iş kuyrukta süresini aştıysa
+     */
+    public <T> T execute(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                waitTimer.record(waited, TimeUnit.NANOSECONDS);
+
+                // İstemci zaten çok bekledi, CPU harcamadan geri çevir
+                if (waited > queueTimeoutNanos) {
+                    deadlineRejections.increment();
+                    throw busy();
+                }
+                return task.get();
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            throw busy();
+        }
+
+        return await(future);
+    }
+
+    /**
+     * Birden fazla işi havuzun tüm worker'larında paralel çalıştırır (ör. toplu kullanıcı import'u).
+     * Login'leri aç bırakmamak için aynı anda en fazla havuz boyutu kadar iş kuyruğa verilir.
+     * Sonuçlar görevlerle aynı sırada döner.
+     * @throws ServiceBusyException kuyruk doluysa
+     */
+    public <T> List<T> executeAll(List<? extends Supplier<T>> tasks) {
+        int wave = executor.getMaximumPoolSize();
+        List<T> results = new ArrayList<>(tasks.size());
+        for (int from = 0; from < tasks.size(); from += wave) {
+            List<Future<T>> futures = new ArrayList<>(wave);
+            try {
+                for (Supplier<T> task : tasks.subList(from, Math.min(from + wave, tasks.size()))) {
+                    futures.add(executor.submit(task::get));
+                }
+            } catch (RejectedExecutionException e) {
+                queueFullRejections.increment();
+                futures.forEach(future -> future.cancel(true));
+                throw busy();
+            }
+            for (Future<T> future : futures) {
+                results.add(await(future));
+            }
+        }
+        return results;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw busy();
+        }
+    }
+
+    private ServiceBusyException busy() {
+        return new ServiceBusyException("Server is busy, please try again", retryAfterSeconds);
+    }
+}
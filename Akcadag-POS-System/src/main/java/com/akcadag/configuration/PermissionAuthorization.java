@@ -0,0 +1,25 @@
+package com.akcadag.configuration;
+
+import com.akcadag.domain.Permission;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+/**
+ *  URL kuralları için yetki kontrolü (SecurityConfig'te request matcher ile kullanılır):
+ * .requestMatchers("/api/super-admin/**").access(PermissionAuthorization.require(Permission.SYSTEM_ADMIN))
+ */
+public final class PermissionAuthorization {
+
+    private PermissionAuthorization() {
+    }
+
+    public static AuthorizationManager<RequestAuthorizationContext> require(Permission... permissions) {
+        long required = RolePermissions.maskOf(permissions);
+        return (authentication, context) -> {
+            Object principal = authentication.get().getPrincipal();
+            return new AuthorizationDecision(principal instanceof JwtPrincipal jwtPrincipal
+                    && jwtPrincipal.has(required));
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.akcadag.configuration;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  PermissionInterceptor
+ * @RequiresPermission annotation'larını handler metodu başına bir kez izin maskesine çevirir ve cache'ler.
+ * Her istekte sadece principal'daki izin maskesi ile bitwise AND yapılır.
+ * Yetki yoksa AccessDeniedException fırlatılır, Spring Security 403 döner.
+ */
+public class PermissionInterceptor implements HandlerInterceptor {
+
+    private final Map<Method, Long> requiredByMethod = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        long required = requiredByMethod.computeIfAbsent(handlerMethod.getMethod(),
+                method -> required(method, handlerMethod.getBeanType()));
+        if (required == 0L) {
+            return true;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof JwtPrincipal principal
+                && principal.has(required)) {
+            return true;
+        }
+        throw new AccessDeniedException("Permission denied");
+    }
+
+    private static long required(Method method, Class<?> beanType) {
+        RequiresPermission annotation = AnnotatedElementUtils.findMergedAnnotation(method, RequiresPermission.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(beanType, RequiresPermission.class);
+        }
+        return annotation == null ? 0L : RolePermissions.maskOf(annotation.value());
+    }
+}
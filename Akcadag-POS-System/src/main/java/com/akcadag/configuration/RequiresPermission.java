@@ -0,0 +1,20 @@
+package com.akcadag.configuration;
+
+import com.akcadag.domain.Permission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *  Controller metoduna (veya sınıfına) erişim için gereken yetkiler; hepsi gereklidir.
+ * Metottaki annotation sınıftakini geçersiz kılar. Kontrolü PermissionInterceptor yapar.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RequiresPermission {
+    Permission[] value();
+}
@@ -0,0 +1,78 @@
+package com.akcadag.configuration;
+
+import com.akcadag.domain.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  RoleAuthorities
+ * Kullanıcı rollerini JWT içinde tek bir sayı (bitmask) olarak taşır: her UserRole bir bit'tir (ordinal).
+ * Tüm rol kombinasyonları için değiştirilemez GrantedAuthority listeleri uygulama açılışında hazırlanır;
+ * token doğrularken string bölme veya yeni liste oluşturma yapılmaz.
+ */
+public final class RoleAuthorities {
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final Map<String, UserRole> BY_NAME = new HashMap<>();
+    private static final List<GrantedAuthority>[] BY_MASK;
+
+    static {
+        for (UserRole role : ROLES) {
+            BY_NAME.put(role.name(), role);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<GrantedAuthority>[] lists = new List[1 << ROLES.length];
+        for (int mask = 0; mask < lists.length; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (UserRole role : ROLES) {
+                if ((mask & bit(role)) != 0) {
+                    authorities.add(new SimpleGrantedAuthority(role.name()));
+                }
+            }
+            lists[mask] = List.copyOf(authorities);
+        }
+        BY_MASK = lists;
+    }
+
+    private RoleAuthorities() {
+    }
+
+    public static int bit(UserRole role) {
+        return 1 << role.ordinal();
+    }
+
+    /**
+     * Authority listesini bitmask'e çevirir. UserRole olmayan authority'ler yok sayılır.
+     */
+    public static int maskOf(Collection<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            UserRole role = BY_NAME.get(authority.getAuthority());
+            if (role != null) {
+                mask |= bit(role);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Bitmask için önceden hazırlanmış, değiştirilemez authority listesi.
+     */
+    public static List<GrantedAuthority> authoritiesOf(int mask) {
+        if (mask < 0 || mask >= BY_MASK.length) {
+            throw new IllegalArgumentException("Invalid role mask: " + mask);
+        }
+        return BY_MASK[mask];
+    }
+
+    public static List<GrantedAuthority> authoritiesOf(UserRole role) {
+        return BY_MASK[bit(role)];
+    }
+}
@@ -0,0 +1,98 @@
+package com.akcadag.configuration;
+
+import com.akcadag.domain.Permission;
+import com.akcadag.domain.UserRole;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.akcadag.domain.Permission.*;
+
+/**
+ *  RolePermissions
+ * Rol → yetki eşlemesini uygulama açılışında bitset'lere derler.
+ * Her rol kombinasyonu (RoleAuthorities bitmask'i) için izin maskesi önceden hesaplanır;
+ * istek sırasında yetki kontrolü tek bir bitwise AND'dir, map veya liste araması yapılmaz.
+ */
+public final class RolePermissions {
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final long[] BY_ROLE_MASK;
+
+    static {
+        Map<UserRole, Set<Permission>> grants = new EnumMap<>(UserRole.class);
+
+        Set<Permission> user = EnumSet.of(PROFILE_READ, PRODUCT_READ);
+
+        Set<Permission> cashier = EnumSet.copyOf(user);
+        cashier.addAll(EnumSet.of(SALE_CREATE, CASH_DRAWER_CLOSE));
+
+        Set<Permission> manager = EnumSet.copyOf(cashier);
+        manager.addAll(EnumSet.of(SALE_REFUND, SALE_VOID, PRODUCT_MANAGE, INVENTORY_ADJUST, REPORT_STORE));
+
+        Set<Permission> storeAdmin = EnumSet.copyOf(manager);
+        storeAdmin.addAll(EnumSet.of(EMPLOYEE_MANAGE, STORE_SETTINGS, USER_LIST, SESSION_REVOKE));
+
+        grants.put(UserRole.ROLE_USER, user);
+        grants.put(UserRole.ROLE_CASHIER, cashier);
+        grants.put(UserRole.ROLE_BRANCH_MANAGER, manager);
+        grants.put(UserRole.ROLE_STORE_MANAGER, manager);
+        grants.put(UserRole.ROLE_STORE_ADMIN, storeAdmin);
+        grants.put(UserRole.ROLE_SUPER_ADMIN, EnumSet.allOf(Permission.class));
+        // Eski ADMIN hesapları süper admin ile aynı yetkilere sahiptir
+        grants.put(UserRole.ROLE_ADMIN, EnumSet.allOf(Permission.class));
+
+        long[] byRole = new long[ROLES.length];
+        for (UserRole role : ROLES) {
+            byRole[role.ordinal()] = maskOf(grants.getOrDefault(role, Set.of()).toArray(new Permission[0]));
+        }
+
+        long[] byMask = new long[1 << ROLES.length];
+        for (int mask = 0; mask < byMask.length; mask++) {
+            for (UserRole role : ROLES) {
+                if ((mask & RoleAuthorities.bit(role)) != 0) {
+                    byMask[mask] |= byRole[role.ordinal()];
+                }
+            }
+        }
+        BY_ROLE_MASK = byMask;
+    }
+
+    private RolePermissions() {
+    }
+
+    public static long bit(Permission permission) {
+        return 1L << permission.ordinal();
+    }
+
+    public static long maskOf(Permission... permissions) {
+        long mask = 0;
+        for (Permission permission : permissions) {
+            mask |= bit(permission);
+        }
+        return mask;
+    }
+
+    /**
+     * Rol bitmask'i için önceden derlenmiş izin maskesi.
+     */
+    public static long permissionsOf(int roleMask) {
+        if (roleMask < 0 || roleMask >= BY_ROLE_MASK.length) {
+            throw new IllegalArgumentException("Invalid role mask: " + roleMask);
+        }
+        return BY_ROLE_MASK[roleMask];
+    }
+
+    public static long permissionsOf(UserRole role) {
+        return BY_ROLE_MASK[RoleAuthorities.bit(role)];
+    }
+
+    /**
+     * Verilen izin maskesi gereken tüm yetkileri içeriyor mu?
+     */
+    public static boolean grants(long permissions, long required) {
+        return (permissions & required) == required;
+    }
+}
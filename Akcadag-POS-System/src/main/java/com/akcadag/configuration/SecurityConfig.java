@@ -1,7 +1,10 @@
 package com.akcadag.configuration;
 
+import com.akcadag.audit.AuditJournal;
+import com.akcadag.domain.Permission;
 import java.util.Arrays;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -17,8 +20,16 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import java.util.Collections;
 
 @Configuration
+@RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final JwtTokenCache jwtTokenCache;
+    private final JwtProvider jwtProvider;
+    private final TokenRevocationIndex tokenRevocationIndex;
+    private final AuthMetrics authMetrics;
+    private final AuditJournal auditJournal;
+    private final ConcurrencyLimits concurrencyLimits;
+
     //  Spring Security yapılandırmasını yapan metod
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -29,13 +40,17 @@ public class SecurityConfig {
 
                 // Endpoint bazlı erişim yetkilendirmesi
                 .authorizeHttpRequests(Authorize -> Authorize
+                        .requestMatchers("/api/super-admin/**")           // /api/super-admin/** -> SYSTEM_ADMIN yetkisi gerekir
+                        .access(PermissionAuthorization.require(Permission.SYSTEM_ADMIN)) // (daha genel /api/** kuralından önce gelmeli)
                         .requestMatchers("/api/**").authenticated()       // /api/** -> kimlik doğrulaması gerekir
-                        .requestMatchers("/api/super-admin/**")           // /api/super-admin/** -> sadece ADMIN rolü erişebilir
-                        .hasRole("ADMIN")
+                        .requestMatchers("/auth/users", "/auth/users/**") // Kullanıcı listesi -> USER_LIST yetkisi gerekir
+                        .access(PermissionAuthorization.require(Permission.USER_LIST))
                         .anyRequest().permitAll()                         // Diğer tüm istekler serbesttir
                 )
                 // JWT doğrulama filtresi eklenir
-                .addFilterBefore(new JwtValidator(), BasicAuthenticationFilter.class)
+                .addFilterBefore(new JwtValidator(jwtTokenCache, jwtProvider, tokenRevocationIndex, authMetrics, auditJournal), BasicAuthenticationFilter.class)
+                // Gecikmeye göre ayarlanan eşzamanlılık limiti; dolunca JWT doğrulamasından önce 503 döner
+                .addFilterBefore(new ConcurrencyLimitFilter(concurrencyLimits), JwtValidator.class)
 
                 // CSRF koruması kapatılıyor (JWT ile çalışırken gerekli)
                 .csrf(AbstractHttpConfigurer::disable)
@@ -0,0 +1,73 @@
+package com.akcadag.configuration;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  TokenRevocationIndex
+ * İptal edilmiş access token'ların bellekteki indeksi; JwtValidator her istekte veritabanına
+ * gitmeden O(1) kontrol yapar.
+ * - revokedTokens: tek tek iptal edilen token'lar (jti → token'ın exp zamanı)
+ * - userCutoffs: kullanıcının belirli bir andan önce üretilmiş tüm token'ları (zorla çıkış)
+ * Kayıtlar token'ların süresi dolunca silinir; iptal edilen token zaten geçersiz olacağı için
+ * indeks access token ömrü kadar kayıttan fazla büyümez.
+ * Kalıcı kayıtlar ve node'lar arası senkronizasyon TokenServiceImpl'dedir.
+ */
+@Component
+public class TokenRevocationIndex {
+
+    private record Cutoff(Instant issuedBefore, Instant expiresAt) {
+    }
+
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Cutoff> userCutoffs = new ConcurrentHashMap<>();
+
+    /**
+     * Token iptal edilmiş mi? Eski (jti'siz) token'lar sadece kullanıcı bazlı kontrol edilir.
+     */
+    public boolean isRevoked(String tokenId, String email, Instant issuedAt) {
+        if (tokenId != null && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        if (userCutoffs.isEmpty()) {
+            return false;
+        }
+        Cutoff cutoff = userCutoffs.get(email);
+        return cutoff != null && issuedAt.isBefore(cutoff.issuedBefore());
+    }
+
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        revokedTokens.merge(tokenId, expiresAt, (old, now) -> now.isAfter(old) ? now : old);
+    }
+
+    /**
+     * Kullanıcının issuedBefore'dan önce üretilmiş tüm token'larını iptal eder.
+     * Aynı kullanıcı için birden fazla kayıt varsa en geç olanı geçerlidir.
+     */
+    public void revokeUser(String email, Instant issuedBefore, Instant expiresAt) {
+        userCutoffs.merge(email, new Cutoff(issuedBefore, expiresAt),
+                (old, now) -> now.issuedBefore().isAfter(old.issuedBefore()) ? now : old);
+    }
+
+    /**
+     * Süresi dolmuş kayıtları siler (o token'lar zaten imza/süre kontrolünde reddedilir).
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval-ms:60000}")
+    public void prune() {
+        Instant now = Instant.now();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        userCutoffs.values().removeIf(cutoff -> cutoff.expiresAt().isBefore(now));
+    }
+
+    public int revokedTokenCount() {
+        return revokedTokens.size();
+    }
+
+    public int userCutoffCount() {
+        return userCutoffs.size();
+    }
+}
@@ -0,0 +1,51 @@
+package com.akcadag.configuration;
+
+import com.akcadag.models.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ *  UserIdSequenceAligner
+ * users.id önceden IDENTITY ile üretiliyordu. ddl-auto=update ile users_seq sonradan 1'den başlayarak
+ * oluşturulduğunda mevcut id'lerle çakışır. Açılışta sequence tablodaki en büyük id'nin gerisindeyse
+ * ileri alınır. Sequence zaten öndeyse (normal durum) hiçbir şey yapılmaz.
+ */
+@Slf4j
+@Component
+public class UserIdSequenceAligner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public UserIdSequenceAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void align() {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from users", Long.class);
+        if (maxId == null) {
+            return;
+        }
+
+        String nextValueSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(User.ID_SEQUENCE);
+        Long next = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+        if (next != null && next > maxId) {
+            return;
+        }
+
+        // Pooled optimizer sequence değerini bloğun üst sınırı sayar, bir blok boşluk bırakılır
+        long restartWith = maxId + User.ID_ALLOCATION_SIZE + 1;
+        jdbcTemplate.execute("alter sequence " + User.ID_SEQUENCE + " restart with " + restartWith);
+        log.info("Moved {} to {} (max users.id = {})", User.ID_SEQUENCE, restartWith, maxId);
+    }
+}
@@ -1,34 +1,170 @@
 package com.akcadag.controller;
 
+import com.akcadag.configuration.AcceptEncoding;
+import com.akcadag.configuration.JwtConstant;
+import com.akcadag.configuration.JwtPrincipal;
+import com.akcadag.configuration.LoginThrottle;
+import com.akcadag.configuration.RolePermissions;
+import com.akcadag.domain.Permission;
+import com.akcadag.domain.UserRole;
 import com.akcadag.exceptions.UserException;
 import com.akcadag.payload.dto.UserDto;
+import com.akcadag.payload.request.RefreshTokenRequest;
+import com.akcadag.payload.response.ApiResponse;
 import com.akcadag.payload.response.AuthResponse;
+import com.akcadag.payload.response.UserPageResponse;
 import com.akcadag.service.interfaces.AuthService;
+import com.akcadag.service.interfaces.TokenService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/auth")
 public class AuthController {
     private final AuthService authService;
+    private final TokenService tokenService;
+    private final LoginThrottle loginThrottle;
+
+    //  Bu kadar veya daha fazla satır içeren sayfalar, istemci destekliyorsa gzip ile gönderilir
+    @Value("${auth.users.gzip-min-rows:20}")
+    private int gzipMinRows;
 
     @PostMapping("/signup")
     public ResponseEntity<AuthResponse> signUpHandler(@RequestBody UserDto userDto) throws UserException {
         return ResponseEntity.ok( authService.signUp(userDto));
     }
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> logInHandler(@RequestBody UserDto userDto) throws UserException {
+    public ResponseEntity<AuthResponse> logInHandler(@RequestBody UserDto userDto,
+                                                     HttpServletRequest request) throws UserException {
+        // Şifre kontrolünden ve veritabanından önce email / IP başına deneme sınırı
+        // (remote address, forward-headers-strategy ile proxy arkasındaki gerçek istemci IP'sidir)
+        loginThrottle.check(userDto.getEmail(), request.getRemoteAddr());
         return ResponseEntity.ok( authService.logIn(userDto));
     }
-    @GetMapping("/users")
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        List<UserDto> users = authService.getAllUsers();
-        return ResponseEntity.ok(users);
+
+    /**
+     * Refresh token ile yeni access token alınır; refresh token da yenilenir (tek kullanımlık).
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refreshHandler(@RequestBody RefreshTokenRequest request) throws UserException {
+        return ResponseEntity.ok(tokenService.refresh(request.getRefreshToken()));
+    }
+
+    /**
+     * Mevcut access token ve gönderilen refresh token iptal edilir.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse> logOutHandler(
+            @RequestHeader(value = JwtConstant.JWT_HEADER, required = false) String jwt,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        tokenService.logout(jwt, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.ok(new ApiResponse("Logout Successfully!"));
+    }
+
+    /**
+     * Kullanıcı listesi JSON dizisi olarak (mevcut istemcilerin beklediği biçim): /auth/users?role=ROLE_CASHIER&store=7
+     * Liste belleğe alınmaz, satırlar veritabanından okundukça diziye yazılır.
+     * Mağazaya bağlı kullanıcıların token'ı sadece kendi mağazasını listeleyebilir.
+     * Accept-Encoding gzip'i kabul ediyorsa dizi sıkıştırılarak yazılır.
+     */
+    @GetMapping(value = "/users", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllUsers(
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Long store,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Long storeId = scopedStore(store);
+        return json(AcceptEncoding.acceptsGzip(acceptEncoding),
+                outputStream -> authService.writeUsers(role, storeId, outputStream));
+    }
+
+    /**
+     * Cursor ile sayfalı kullanıcı listesi: /auth/users/page?after=120&size=50&role=ROLE_CASHIER&store=7
+     * Cevap {users, nextCursor} nesnesidir; nextCursor bir sonraki isteğin after değeridir.
+     * Büyük sayfalar Accept-Encoding: gzip ile istenirse sıkıştırılmış gönderilir.
+     * (Tomcat sıkıştırması sadece NDJSON için açık; Spring MVC JSON cevaplarını flush ettiği için
+     * Tomcat küçük login/profile cevaplarını büyüklerden ayıramaz.)
+     */
+    @GetMapping(value = "/users/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getUserPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Long store,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        UserPageResponse page = authService.getUsers(after, size, role, scopedStore(store));
+        boolean gzip = page.getUsers().size() >= gzipMinRows && AcceptEncoding.acceptsGzip(acceptEncoding);
+        return json(gzip, outputStream -> authService.writeUserPage(page, outputStream));
+    }
+
+    /**
+     * Tüm kullanıcılar NDJSON olarak akıtılır (Accept: application/x-ndjson).
+     * Accept-Encoding: gzip varsa Tomcat akışı sıkıştırır (server.compression).
+     */
+    @GetMapping(value = "/users", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers(
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Long store) {
+        Long storeId = scopedStore(store);
+        StreamingResponseBody body = outputStream -> authService.streamUsers(role, storeId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * JSON cevabı; gzip istenirse gövde sıkıştırılarak yazılır ve Content-Encoding eklenir.
+     * Cevap Accept-Encoding'e göre değiştiği için Vary her durumda gönderilir (cache'ler ayırt etsin diye).
+     */
+    private static ResponseEntity<StreamingResponseBody> json(boolean gzip, StreamingResponseBody body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return builder.body(body);
+        }
+        return builder
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(outputStream -> {
+                    try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 8192)) {
+                        body.writeTo(gzipStream);
+                    }
+                });
+    }
+
+    /**
+     * Token mağazaya bağlıysa listeleme o mağazayla sınırlanır; başka mağaza istenirse 403.
+     * Mağazası olmayan token sadece SYSTEM_ADMIN yetkisi varsa zincir geneli sayılır ve store
+     * parametresiyle istediği mağazayı seçebilir; diğerleri reddedilir.
+     * USER_LIST yetkisi olmayan istek buraya gelmez (SecurityConfig).
+     */
+    private static Long scopedStore(Long requested) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof JwtPrincipal principal)) {
+            throw new AccessDeniedException("Authentication required");
+        }
+        if (principal.storeId() == null) {
+            if (!principal.has(RolePermissions.bit(Permission.SYSTEM_ADMIN))) {
+                throw new AccessDeniedException("Account is not bound to a store");
+            }
+            return requested;
+        }
+        if (requested != null && !requested.equals(principal.storeId())) {
+            throw new AccessDeniedException("Users of store " + requested + " are not visible to this account");
+        }
+        return principal.storeId();
     }
 
 }
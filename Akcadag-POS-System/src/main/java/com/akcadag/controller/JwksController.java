@@ -0,0 +1,28 @@
+package com.akcadag.controller;
+
+import com.akcadag.configuration.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtKeyRing jwtKeyRing;
+
+    /**
+     * Token doğrulama için public anahtarlar (JWKS). Diğer servisler bu dokümanı cache'leyip
+     * token'ları kid ile kendi başlarına doğrular.
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtKeyRing.jwksJson());
+    }
+}
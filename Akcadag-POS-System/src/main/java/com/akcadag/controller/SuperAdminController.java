@@ -0,0 +1,81 @@
+package com.akcadag.controller;
+
+import com.akcadag.audit.AuditEventType;
+import com.akcadag.audit.AuditJournal;
+import com.akcadag.audit.AuditQuery;
+import com.akcadag.audit.AuditRecord;
+import com.akcadag.configuration.RequiresPermission;
+import com.akcadag.domain.Permission;
+import com.akcadag.exceptions.UserException;
+import com.akcadag.payload.dto.UserDto;
+import com.akcadag.payload.response.FailedLoginCountResponse;
+import com.akcadag.payload.response.UserImportResponse;
+import com.akcadag.service.interfaces.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/super-admin")
+public class SuperAdminController {
+    private static final int MAX_AUDIT_LIMIT = 1000;
+
+    private final UserImportService userImportService;
+    private final AuditJournal auditJournal;
+
+    /**
+     * Toplu kullanıcı oluşturma (JSON dizi). Her satırın sonucu raporda döner.
+     */
+    @RequiresPermission(Permission.USER_IMPORT)
+    @PostMapping(value = "/users/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UserImportResponse> importUsers(@RequestBody List<UserDto> users) throws UserException {
+        return ResponseEntity.ok(userImportService.importUsers(users));
+    }
+
+    /**
+     * Toplu kullanıcı oluşturma (CSV, başlık: fullName,email,password,phone,role).
+     */
+    @RequiresPermission(Permission.USER_IMPORT)
+    @PostMapping(value = "/users/import", consumes = "text/csv")
+    public ResponseEntity<UserImportResponse> importCsv(@RequestBody String csv) throws UserException {
+        return ResponseEntity.ok(userImportService.importCsv(csv));
+    }
+
+    /**
+     * Audit journal sorgusu, en yeni kayıtlar önce: /audit?type=LOGIN_FAILURE&email=a@x.com&from=2025-01-01T00:00:00Z
+     */
+    @GetMapping("/audit")
+    @RequiresPermission(Permission.AUDIT_READ)
+    public ResponseEntity<List<AuditRecord>> queryAudit(
+            @RequestParam(required = false) AuditEventType type,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(auditJournal.query(
+                new AuditQuery(type, email, from, to, Math.min(limit, MAX_AUDIT_LIMIT))));
+    }
+
+    /**
+     * Email için son window (ör. PT15M) içindeki başarısız login sayısı.
+     */
+    @GetMapping("/audit/failed-logins")
+    @RequiresPermission(Permission.AUDIT_READ)
+    public ResponseEntity<FailedLoginCountResponse> failedLogins(
+            @RequestParam String email,
+            @RequestParam(defaultValue = "PT15M") Duration window) {
+        return ResponseEntity.ok(new FailedLoginCountResponse(email, window,
+                auditJournal.countFailedLogins(email, window)));
+    }
+}
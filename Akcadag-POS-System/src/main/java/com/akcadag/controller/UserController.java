@@ -0,0 +1,45 @@
+package com.akcadag.controller;
+
+import com.akcadag.configuration.RequiresPermission;
+import com.akcadag.domain.Permission;
+import com.akcadag.exceptions.UserException;
+import com.akcadag.mapper.UserMapper;
+import com.akcadag.payload.dto.UserDto;
+import com.akcadag.payload.response.ApiResponse;
+import com.akcadag.service.interfaces.TokenService;
+import com.akcadag.service.interfaces.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/users")
+public class UserController {
+    private final UserService userService;
+    private final TokenService tokenService;
+
+    /**
+     * JWT ile giriş yapmış kullanıcının profilini döndürür.
+     */
+    @GetMapping("/profile")
+    @RequiresPermission(Permission.PROFILE_READ)
+    public ResponseEntity<UserDto> getUserProfile() throws UserException {
+        return ResponseEntity.ok(UserMapper.toDTO(userService.getCurrentUser()));
+    }
+
+    /**
+     * Kullanıcının tüm oturumlarını kapatır (ör. çalınan terminal).
+     * Mağaza admini sadece kendi mağazasının kullanıcıları için çağırabilir.
+     */
+    @DeleteMapping("/{id}/sessions")
+    @RequiresPermission(Permission.SESSION_REVOKE)
+    public ResponseEntity<ApiResponse> revokeSessions(@PathVariable Long id) throws UserException {
+        tokenService.revokeUserSessions(id);
+        return ResponseEntity.ok(new ApiResponse("Sessions revoked"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.akcadag.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ *  ReadYourWrites
+ * Yazma yapan kullanıcının (email) okumaları, replikalar yetişene kadar kısa bir süre primary'e gider.
+ * Kullanıcı SecurityContext'ten okunur; login gibi henüz kimliği olmayan akışlar subject(...) ile belirtir.
+ * Kayıtlar bu node'un belleğindedir; birden fazla node varsa sticky load balancer ile kullanılmalıdır.
+ */
+@Component
+public class ReadYourWrites {
+
+    private static final ThreadLocal<String> SUBJECT = new ThreadLocal<>();
+
+    // email → son yazmanın üzerinden sticky-window geçene kadar tutulur
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(@Value("${datasource.routing.sticky-window:5s}") Duration stickyWindow,
+                          @Value("${datasource.routing.max-sticky-users:100000}") long maxStickyUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(maxStickyUsers)
+                .build();
+    }
+
+    /**
+     * Kapanana kadar bu thread'deki işlemler verilen kullanıcı adına sayılır (ör. login, signup).
+     */
+    public Scope subject(String email) {
+        String previous = SUBJECT.get();
+        SUBJECT.set(email);
+        return () -> {
+            if (previous == null) {
+                SUBJECT.remove();
+            } else {
+                SUBJECT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Kullanıcının yazdığını kaydeder; sticky-window boyunca okumaları primary'den yapılır.
+     */
+    public void recordWrite(String email) {
+        if (email != null) {
+            recentWriters.put(email, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Şu anki kullanıcı yakın zamanda yazdıysa true.
+     */
+    public boolean mustReadPrimary() {
+        String email = currentSubject();
+        return email != null && recentWriters.getIfPresent(email) != null;
+    }
+
+    public String currentSubject() {
+        String subject = SUBJECT.get();
+        if (subject != null) {
+            return subject;
+        }
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+
+    public long stickyCount() {
+        return recentWriters.estimatedSize();
+    }
+
+    /**
+     * subject(...) kapsamı; try-with-resources ile kullanılır.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,69 @@
+package com.akcadag.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ *  ReplicaReadDataSource
+ * Read-only transaction'ların bağlantı kaynağı (LazyConnectionDataSourceProxy#setReadOnlyDataSource).
+ * - Kullanıcı yakın zamanda yazdıysa (ReadYourWrites) okuma primary'den yapılır.
+ * - Aksi halde sağlıklı bir replika seçilir; hiçbiri cevap vermezse primary'e düşülür.
+ */
+public class ReplicaReadDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaSet replicas;
+    private final ReadYourWrites readYourWrites;
+
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+
+    public ReplicaReadDataSource(DataSource primary, ReplicaSet replicas, ReadYourWrites readYourWrites,
+                                 MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+        this.replicaReads = readCounter(meterRegistry, "replica", "routed");
+        this.stickyReads = readCounter(meterRegistry, "primary", "read-your-writes");
+        this.fallbackReads = readCounter(meterRegistry, "primary", "fallback");
+        Gauge.builder("datasource.replicas.healthy", replicas, ReplicaSet::healthyCount)
+                .description("Okuma için kullanılabilir replika sayısı")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (readYourWrites.mustReadPrimary()) {
+            stickyReads.increment();
+            return primary.getConnection();
+        }
+        Connection connection = replicas.getConnection();
+        if (connection != null) {
+            replicaReads.increment();
+            return connection;
+        }
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Replika pool'ları kendi kullanıcılarıyla açılır; farklı kullanıcı isteniyorsa primary kullanılır
+        return primary.getConnection(username, password);
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing.reads")
+                .description("Read-only transaction bağlantılarının gittiği yer")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,106 @@
+package com.akcadag.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  ReplicaRoutingConfig
+ * datasource.routing.enabled=true ise uygulamanın DataSource'u iki yöne ayrılır:
+ * - Yazılabilir transaction'lar (signup, import, lastLoginAt, refresh token) → primary
+ * - Read-only transaction'lar (@Transactional(readOnly = true), Spring Data find*) → replikalar
+ * Yön, bağlantı ilk SQL'de alınırken (LazyConnectionDataSourceProxy) transaction'ın read-only
+ * işaretine göre seçilir. Kapalıyken Spring Boot'un tek Hikari pool'u olduğu gibi kullanılır.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaSet replicaSet(DataSourceProperties properties,
+                                 @Value("${datasource.routing.replica-urls}") List<String> replicaUrls,
+                                 @Value("${datasource.routing.replica-username:${spring.datasource.username:}}") String username,
+                                 @Value("${datasource.routing.replica-password:${spring.datasource.password:}}") String password,
+                                 @Value("${datasource.routing.replica-pool-size:10}") int poolSize,
+                                 @Value("${datasource.routing.replica-connection-timeout:1s}") Duration connectionTimeout,
+                                 MeterRegistry meterRegistry) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (pools.size() + 1));
+            pool.setJdbcUrl(url.trim());
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setDriverClassName(properties.determineDriverClassName());
+            pool.setMaximumPoolSize(poolSize);
+            pool.setReadOnly(true);
+            // Düşen replika isteği uzun süre bekletmez, uygulama açılışını da engellemez
+            pool.setConnectionTimeout(connectionTimeout.toMillis());
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.add(pool);
+        }
+        return new ReplicaSet(pools, (int) Math.max(1, connectionTimeout.toSeconds()));
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 ReplicaSet replicaSet,
+                                 ReadYourWrites readYourWrites,
+                                 MeterRegistry meterRegistry) {
+        // Primary pool, spring.datasource.* ve spring.datasource.hikari.* ayarlarıyla kurulur
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+        return routingDataSource(primary, replicaSet, readYourWrites, meterRegistry);
+    }
+
+    /**
+     * Primary ve replikalardan yönlendiren DataSource'u kurar (testlerde de doğrudan kullanılır).
+     */
+    static RoutingDataSource routingDataSource(HikariDataSource primary, ReplicaSet replicaSet,
+                                               ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
+        RoutingDataSource routing = new RoutingDataSource(new WriteTrackingDataSource(primary, readYourWrites), primary);
+        routing.setReadOnlyDataSource(new ReplicaReadDataSource(primary, replicaSet, readYourWrites, meterRegistry));
+        return routing;
+    }
+
+    /**
+     * Kapanışta primary pool'u da kapatan LazyConnectionDataSourceProxy.
+     */
+    static class RoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+        private final HikariDataSource primaryPool;
+
+        RoutingDataSource(DataSource writeTarget, HikariDataSource primaryPool) {
+            super(writeTarget);
+            this.primaryPool = primaryPool;
+        }
+
+        @Override
+        public void close() {
+            primaryPool.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.akcadag.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *  ReplicaSet
+ * Okuma replikalarının connection pool'larını ve sağlık durumlarını tutar.
+ * Replikalar sırayla (round-robin) seçilir; bağlantı alınamayan replika devre dışı bırakılır
+ * ve periyodik kontrol tekrar cevap verdiğini görene kadar seçilmez.
+ */
+@Slf4j
+public class ReplicaSet implements DisposableBean {
+
+    /**
+     * Tek bir replika: pool ve son bilinen sağlık durumu.
+     */
+    public record Replica(String name, HikariDataSource pool, AtomicBoolean healthy) {
+    }
+
+    private final List<Replica> replicas;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaSet(List<HikariDataSource> pools, int validationTimeoutSeconds) {
+        this.replicas = pools.stream()
+                .map(pool -> new Replica(pool.getPoolName(), pool, new AtomicBoolean(true)))
+                .toList();
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    /**
+     * Sağlıklı replikalardan bağlantı alır; hiçbiri cevap vermezse null döner (çağıran primary'e düşer).
+     */
+    public Connection getConnection() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy().get()) {
+                continue;
+            }
+            try {
+                return replica.pool().getConnection();
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Replikaları kontrol eder; düşenler devre dışı kalır, geri gelenler tekrar seçilir.
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}",
+            initialDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool().getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    throw new SQLException("Connection is not valid");
+                }
+                if (replica.healthy().compareAndSet(false, true)) {
+                    log.info("Read replica {} is back, routing reads to it again", replica.name());
+                }
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    public int healthyCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy().get()).count();
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.pool().close());
+    }
+
+    private static void markDown(Replica replica, SQLException e) {
+        if (replica.healthy().compareAndSet(true, false)) {
+            log.warn("Read replica {} is unavailable, reads fall back to other replicas or the primary: {}",
+                    replica.name(), e.getMessage());
+        }
+    }
+}
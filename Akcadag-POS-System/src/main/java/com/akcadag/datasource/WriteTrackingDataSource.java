@@ -0,0 +1,54 @@
+package com.akcadag.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ *  WriteTrackingDataSource
+ * Primary pool'u sarar. Yazılabilir bir transaction primary'den bağlantı aldığında,
+ * commit sonrası o kullanıcı ReadYourWrites'a kaydedilir; sonraki okumaları replikaya gitmez.
+ */
+public class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private final ReadYourWrites readYourWrites;
+
+    public WriteTrackingDataSource(DataSource primary, ReadYourWrites readYourWrites) {
+        super(primary);
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        trackWrite();
+        return obtainTargetDataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        trackWrite();
+        return obtainTargetDataSource().getConnection(username, password);
+    }
+
+    private void trackWrite() {
+        // Transaction dışındaki (auto-commit) bağlantılar okuma da olabilir, sadece transaction'lar sayılır
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        String subject = readYourWrites.currentSubject();
+        if (subject == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite(subject);
+            }
+        });
+    }
+}
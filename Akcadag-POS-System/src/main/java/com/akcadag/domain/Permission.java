@@ -0,0 +1,38 @@
+package com.akcadag.domain;
+
+/**
+ *  POS yetkileri. Her yetki, rol bazlı izin maskesinde bir bit'tir (ordinal), en fazla 64 yetki olabilir.
+ * Rol → yetki eşlemesi RolePermissions'ta tanımlıdır.
+ */
+public enum Permission {
+    // Kendi profili
+    PROFILE_READ,
+
+    // Kasa / satış
+    SALE_CREATE,
+    SALE_REFUND,
+    SALE_VOID,
+    CASH_DRAWER_CLOSE,
+
+    // Ürün ve stok
+    PRODUCT_READ,
+    PRODUCT_MANAGE,
+    INVENTORY_ADJUST,
+
+    // Raporlar
+    REPORT_STORE,
+    REPORT_ALL,
+
+    // Mağaza yönetimi
+    EMPLOYEE_MANAGE,
+    STORE_SETTINGS,
+
+    // Kullanıcı ve sistem yönetimi
+    USER_LIST,
+    USER_IMPORT,
+    SESSION_REVOKE,
+    SYSTEM_ADMIN,
+
+    // Audit journal sorguları
+    AUDIT_READ
+}
@@ -1,9 +1,29 @@
 package com.akcadag.domain;
 
+/**
+ * Veritabanında ordinal olarak tutulur; yeni roller sadece sona eklenmelidir.
+ */
 public enum UserRole {
     ROLE_USER,
     ROLE_ADMIN,
     ROLE_CASHIER,
     ROLE_BRANCH_MANAGER,
-    ROLE_STORE_MANAGER
+    ROLE_STORE_MANAGER,
+    ROLE_STORE_ADMIN,
+    ROLE_SUPER_ADMIN;
+
+    /**
+     * Yönetici rolleri kayıt (signup) ile alınamaz.
+     */
+    public boolean isAdministrative() {
+        return this == ROLE_ADMIN || this == ROLE_STORE_ADMIN || this == ROLE_SUPER_ADMIN;
+    }
+
+    /**
+     * Herkese açık kayıtta (token'sız) sadece en düşük yetkili roller seçilebilir;
+     * yönetici olmayan diğer roller (mağaza / şube müdürü) çalışan yönetme yetkisi olan bir hesapla açılır.
+     */
+    public boolean isSelfRegistrable() {
+        return this == ROLE_USER || this == ROLE_CASHIER;
+    }
 }
@@ -0,0 +1,18 @@
+package com.akcadag.exceptions;
+
+/**
+ * Sunucu geçici olarak meşgul olduğunda fırlatılır.
+ * İstemciye 503 ve Retry-After header'ı ile "tekrar deneyin" cevabı döner.
+ */
+public class ServiceBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package com.akcadag.exceptions;
+
+/**
+ * İstemci kısa sürede çok fazla deneme yaptığında fırlatılır.
+ * İstemciye 429 ve Retry-After header'ı ile cevap döner.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
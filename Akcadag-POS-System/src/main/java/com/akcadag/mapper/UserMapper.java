@@ -2,20 +2,64 @@ package com.akcadag.mapper;
 
 import com.akcadag.models.User;
 import com.akcadag.payload.dto.UserDto;
+import com.akcadag.repository.projection.UserCredentials;
+import com.akcadag.repository.projection.UserListItem;
+import com.akcadag.repository.projection.UserProfile;
 
+/*
+ * Şifre hash'i hiçbir DTO'ya kopyalanmaz.
+ */
 public class UserMapper {
 
     public static UserDto toDTO(User savedUser) {
         UserDto userDto=new UserDto();
         userDto.setId(savedUser.getId());
         userDto.setFullName(savedUser.getFullName());
-        userDto.setPassword(savedUser.getPassword());
         userDto.setEmail(savedUser.getEmail());
         userDto.setPhone(savedUser.getPhone());
         userDto.setRole(savedUser.getRole());
+        userDto.setStoreId(savedUser.getStoreId());
         userDto.setCreatedAt(savedUser.getCreatedAt());
         userDto.setUpdatedAt(savedUser.getUpdatedAt());
         userDto.setLastLoginAt(savedUser.getLastLoginAt());
         return userDto;
     }
+
+    public static UserDto toDTO(UserProfile profile) {
+        UserDto userDto=new UserDto();
+        userDto.setId(profile.id());
+        userDto.setFullName(profile.fullName());
+        userDto.setEmail(profile.email());
+        userDto.setPhone(profile.phone());
+        userDto.setRole(profile.role());
+        userDto.setStoreId(profile.storeId());
+        userDto.setCreatedAt(profile.createdAt());
+        userDto.setUpdatedAt(profile.updatedAt());
+        userDto.setLastLoginAt(profile.lastLoginAt());
+        return userDto;
+    }
+
+    public static UserDto toDTO(UserListItem item) {
+        UserDto userDto=new UserDto();
+        userDto.setId(item.id());
+        userDto.setFullName(item.fullName());
+        userDto.setEmail(item.email());
+        userDto.setRole(item.role());
+        userDto.setStoreId(item.storeId());
+        userDto.setLastLoginAt(item.lastLoginAt());
+        return userDto;
+    }
+
+    public static UserDto toDTO(UserCredentials credentials) {
+        UserDto userDto=new UserDto();
+        userDto.setId(credentials.id());
+        userDto.setFullName(credentials.fullName());
+        userDto.setEmail(credentials.email());
+        userDto.setPhone(credentials.phone());
+        userDto.setRole(credentials.role());
+        userDto.setStoreId(credentials.storeId());
+        userDto.setCreatedAt(credentials.createdAt());
+        userDto.setUpdatedAt(credentials.updatedAt());
+        return userDto;
+    }
 }
@@ -0,0 +1,42 @@
+package com.akcadag.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ *  JWT imzalama anahtarı. Tüm node'lar anahtarları bu tablodan okur; yeniden başlatma ve
+ * farklı node'lar aynı anahtarlarla imzalar / doğrular.
+ * Private anahtar jwt.keys.encryption-secret verilmişse AES-GCM ile şifrelenmiş olarak tutulur.
+ * expiresAt'ten sonra anahtar doğrulamada kullanılmaz ve silinebilir.
+ */
+@Data
+@Entity
+@Table(name = "jwt_signing_keys", indexes = {
+        @Index(name = "idx_jwt_signing_keys_algorithm_expires", columnList = "algorithm,expiresAt")
+})
+@NoArgsConstructor
+public class JwtSigningKey {
+    @Id
+    @Column(length = 64)
+    private String kid;
+
+    @Column(nullable = false, length = 16)
+    private String algorithm;
+
+    @Column(nullable = false, length = 2048)
+    private byte[] privateKey;
+
+    @Column(nullable = false, length = 1024)
+    private byte[] publicKey;
+
+    private boolean encrypted;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
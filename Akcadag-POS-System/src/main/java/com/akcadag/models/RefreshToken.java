@@ -0,0 +1,42 @@
+package com.akcadag.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ *  Refresh token kaydı. Token'ın kendisi değil sadece SHA-256 özeti saklanır.
+ * Aynı login'den türeyen token'lar aynı familyId'yi taşır; kullanılmış bir token tekrar
+ * gelirse (çalınmış olabilir) tüm aile iptal edilir.
+ */
+@Data
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family", columnList = "familyId"),
+        @Index(name = "idx_refresh_tokens_user", columnList = "userId")
+})
+@NoArgsConstructor
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    private Instant createdAt;
+
+    // Kullanıldığında (rotation) veya iptal edildiğinde dolar
+    private Instant revokedAt;
+}
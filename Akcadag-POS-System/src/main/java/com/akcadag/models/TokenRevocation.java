@@ -0,0 +1,37 @@
+package com.akcadag.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ *  İptal edilmiş access token kaydı. İki tür vardır:
+ * - jti dolu: tek bir token iptal edilmiştir (logout).
+ * - email dolu: kullanıcının issuedBefore'dan önce üretilmiş tüm token'ları iptal edilmiştir.
+ * Kayıtlar bellekteki TokenRevocationIndex'e yüklenir; expiresAt'ten sonra silinebilir.
+ */
+@Data
+@Entity
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_created", columnList = "createdAt")
+})
+@NoArgsConstructor
+public class TokenRevocation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 36)
+    private String jti;
+
+    private String email;
+
+    private Instant issuedBefore;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    private Instant createdAt;
+}
@@ -14,13 +14,23 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "users")
+// Mağaza bazlı sorgular (listeleme, rol filtresi) store_id ile başlayan bileşik indekslerden okunur
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_store_id", columnList = "store_id, id"),
+        @Index(name = "idx_users_store_role_id", columnList = "store_id, role, id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode
 public class User {
+    // Pooled sequence: id'ler 50'lik bloklar halinde alınır, toplu kayıtta Hibernate INSERT'leri JDBC batch ile gönderir
+    // (IDENTITY ile her INSERT tek tek çalıştırılmak zorundadır). Mevcut tablolar için bkz. UserIdSequenceAligner.
+    public static final String ID_SEQUENCE = "users_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id")
+    @SequenceGenerator(name = "users_id", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     @Column(nullable = false)
     private String fullName;
@@ -33,6 +43,9 @@ public class User {
     private String phone;
     @Column(nullable = false)
     private UserRole role;
+    // Kullanıcının bağlı olduğu mağaza / şube; null → tüm zincir (genel merkez, süper admin)
+    @Column(name = "store_id")
+    private Long storeId;
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
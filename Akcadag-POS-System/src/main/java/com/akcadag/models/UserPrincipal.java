@@ -0,0 +1,24 @@
+package com.akcadag.models;
+
+import com.akcadag.repository.projection.UserCredentials;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * Spring Security'nin UserDetails'i ile birlikte veritabanından yüklenen kullanıcı bilgilerini taşır.
+ * Login sırasında kullanıcının tekrar sorgulanmasına gerek kalmaz.
+ */
+public class UserPrincipal extends org.springframework.security.core.userdetails.User {
+
+    private final UserCredentials user;
+
+    public UserPrincipal(UserCredentials user, Collection<? extends GrantedAuthority> authorities) {
+        super(user.email(), user.password(), authorities);
+        this.user = user;
+    }
+
+    public UserCredentials getUser() {
+        return user;
+    }
+}
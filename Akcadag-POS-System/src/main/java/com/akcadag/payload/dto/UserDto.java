@@ -1,6 +1,7 @@
 package com.akcadag.payload.dto;
 
 import com.akcadag.domain.UserRole;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.Column;
 import jakarta.validation.constraints.Email;
 import lombok.Data;
@@ -11,9 +12,12 @@ public class UserDto {
     private Long id;
     private String fullName;
     private String email;
+    // Sadece istekten okunur (signup/login), hiçbir cevaba yazılmaz
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
     private String phone;
     private UserRole role;
+    private Long storeId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime lastLoginAt;
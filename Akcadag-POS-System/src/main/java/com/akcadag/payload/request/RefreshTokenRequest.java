@@ -0,0 +1,8 @@
+package com.akcadag.payload.request;
+
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequest {
+    private String refreshToken;
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 @Data
 public class AuthResponse {
     private String jwt;
+    private String refreshToken;
     private String message;
    // private String title;
     private UserDto user;
@@ -0,0 +1,16 @@
+package com.akcadag.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FailedLoginCountResponse {
+    private String email;
+    private Duration window;
+    private long failedLogins;
+}
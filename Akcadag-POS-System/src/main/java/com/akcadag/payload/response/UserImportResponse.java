@@ -0,0 +1,12 @@
+package com.akcadag.payload.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UserImportResponse {
+    private int created;
+    private int failed;
+    private List<UserImportResult> rows;
+}
@@ -0,0 +1,21 @@
+package com.akcadag.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Toplu import'ta tek satırın sonucu.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResult {
+    public enum Status { CREATED, DUPLICATE, INVALID }
+
+    private int row;
+    private String email;
+    private Status status;
+    private Long id;
+    private String message;
+}
@@ -0,0 +1,13 @@
+package com.akcadag.payload.response;
+
+import com.akcadag.payload.dto.UserDto;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UserPageResponse {
+    private List<UserDto> users;
+    // Sonraki sayfa için "after" parametresi, son sayfada null
+    private Long nextCursor;
+}
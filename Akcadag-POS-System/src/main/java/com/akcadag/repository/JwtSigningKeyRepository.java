@@ -0,0 +1,25 @@
+package com.akcadag.repository;
+
+import com.akcadag.models.JwtSigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+    /**
+     * Süresi dolmamış anahtarlar, eskiden yeniye.
+     */
+    @Query("select k from JwtSigningKey k where k.algorithm = :algorithm and k.expiresAt > :now order by k.createdAt")
+    List<JwtSigningKey> findActive(@Param("algorithm") String algorithm, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from JwtSigningKey k where k.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,25 @@
+package com.akcadag.repository;
+
+import com.akcadag.models.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    /**
+     * Verilen zamandan sonra (bu veya diğer node'larda) eklenen, süresi dolmamış kayıtlar.
+     */
+    @Query("select r from TokenRevocation r where r.createdAt > :since and r.expiresAt > :now")
+    List<TokenRevocation> findActiveCreatedAfter(@Param("since") Instant since, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from TokenRevocation r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,10 +1,83 @@
 package com.akcadag.repository;
 
+import com.akcadag.domain.UserRole;
 import com.akcadag.models.User;
+import com.akcadag.repository.projection.UserCredentials;
+import com.akcadag.repository.projection.UserListItem;
+import com.akcadag.repository.projection.UserProfile;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User,Long> {
     User findByEmail(String email);
+
+    boolean existsByEmail(String email);
+
+    /**
+     * Verilen email'lerden veritabanında kayıtlı olanlar (toplu import'ta tek sorguda kontrol).
+     */
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /*
+     * Okuma amaçlı projeksiyonlar: sadece gereken kolonlar seçilir,
+     * sonuçlar managed entity olmadığı için dirty-checking yapılmaz.
+     * Read-only oldukları için replika yönlendirmesi açıksa replikalardan okunurlar
+     * (email tekilliği kontrolleri yukarıda, primary'de kalır).
+     */
+
+    @Transactional(readOnly = true)
+    @Query("select new com.akcadag.repository.projection.UserCredentials(" +
+            "u.id, u.email, u.password, u.role, u.storeId, u.fullName, u.phone, u.createdAt, u.updatedAt) " +
+            "from User u where u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.akcadag.repository.projection.UserProfile(" +
+            "u.id, u.fullName, u.email, u.phone, u.role, u.storeId, u.createdAt, u.updatedAt, u.lastLoginAt) " +
+            "from User u where u.email = :email")
+    Optional<UserProfile> findProfileByEmail(@Param("email") String email);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.akcadag.repository.projection.UserProfile(" +
+            "u.id, u.fullName, u.email, u.phone, u.role, u.storeId, u.createdAt, u.updatedAt, u.lastLoginAt) " +
+            "from User u where u.id = :id")
+    Optional<UserProfile> findProfileById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.akcadag.repository.projection.UserProfile(" +
+            "u.id, u.fullName, u.email, u.phone, u.role, u.storeId, u.createdAt, u.updatedAt, u.lastLoginAt) " +
+            "from User u order by u.id")
+    List<UserProfile> findAllProfiles();
+
+    /**
+     * Keyset (cursor) sayfalama: afterId'den büyük id'ler sırayla, en fazla limit kadar.
+     * role null ise tüm roller döner.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new com.akcadag.repository.projection.UserListItem(" +
+            "u.id, u.fullName, u.email, u.role, u.storeId, u.lastLoginAt) " +
+            "from User u where u.id > :afterId and (:role is null or u.role = :role) order by u.id")
+    List<UserListItem> findPageAfter(@Param("afterId") long afterId, @Param("role") UserRole role, Limit limit);
+
+    /**
+     * Tek mağazanın kullanıcıları, keyset sayfalama ile. (store_id, id) / (store_id, role, id)
+     * indekslerinden okunur; diğer mağazaların satırları taranmaz, süre mağaza sayısından bağımsızdır.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new com.akcadag.repository.projection.UserListItem(" +
+            "u.id, u.fullName, u.email, u.role, u.storeId, u.lastLoginAt) " +
+            "from User u where u.storeId = :storeId and u.id > :afterId " +
+            "and (:role is null or u.role = :role) order by u.id")
+    List<UserListItem> findStorePageAfter(@Param("storeId") long storeId, @Param("afterId") long afterId,
+                                          @Param("role") UserRole role, Limit limit);
 }
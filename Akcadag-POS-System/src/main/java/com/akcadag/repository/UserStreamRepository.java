@@ -0,0 +1,90 @@
+package com.akcadag.repository;
+
+import com.akcadag.domain.UserRole;
+import com.akcadag.payload.dto.UserDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ *  UserStreamRepository
+ * Kullanıcı tablosunu entity yüklemeden, JDBC fetch size ile satır satır okur.
+ * Büyük listelerin tamamı belleğe alınmadan istemciye akıtılabilir.
+ */
+@Repository
+public class UserStreamRepository {
+
+    private static final UserRole[] ROLES = UserRole.values();
+
+    private static final String SELECT =
+            "select id, full_name, email, phone, role, store_id, created_at, updated_at, last_login_at from users";
+    // Filtre kombinasyonlarına göre hazır SQL: [rol filtresi var mı | mağaza filtresi var mı << 1]
+    private static final String[] SELECTS = {
+            SELECT + " order by id",
+            SELECT + " where role = ? order by id",
+            SELECT + " where store_id = ? order by id",
+            SELECT + " where store_id = ? and role = ? order by id"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public UserStreamRepository(JdbcTemplate jdbcTemplate,
+                                @Value("${auth.users.stream-fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Kullanıcıları id sırasıyla okur ve her satırı consumer'a verir.
+     * storeId verilirse sadece o mağazanın kullanıcıları (store_id, role, id) indeksinden okunur.
+     * PostgreSQL'de fetch size sadece autocommit kapalıyken çalıştığı için işlem transaction içinde yapılır.
+     */
+    @Transactional(readOnly = true)
+    public void forEach(UserRole role, Long storeId, Consumer<UserDto> consumer) {
+        RowCallbackHandler handler = rs -> consumer.accept(mapRow(rs));
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    SELECTS[(role != null ? 1 : 0) | (storeId != null ? 2 : 0)],
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            int index = 1;
+            if (storeId != null) {
+                ps.setLong(index++, storeId);
+            }
+            if (role != null) {
+                ps.setInt(index, role.ordinal());
+            }
+            return ps;
+        }, handler);
+    }
+
+    private static UserDto mapRow(ResultSet rs) throws SQLException {
+        UserDto userDto = new UserDto();
+        userDto.setId(rs.getLong("id"));
+        userDto.setFullName(rs.getString("full_name"));
+        userDto.setEmail(rs.getString("email"));
+        userDto.setPhone(rs.getString("phone"));
+        userDto.setRole(ROLES[rs.getInt("role")]);
+        long storeId = rs.getLong("store_id");
+        userDto.setStoreId(rs.wasNull() ? null : storeId);
+        userDto.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        userDto.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        userDto.setLastLoginAt(toLocalDateTime(rs.getTimestamp("last_login_at")));
+        return userDto;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
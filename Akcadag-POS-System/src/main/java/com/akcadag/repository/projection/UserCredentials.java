@@ -0,0 +1,21 @@
+package com.akcadag.repository.projection;
+
+import com.akcadag.domain.UserRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kimlik doğrulama (principal) için gereken kolonlar.
+ * Şifre hash'i sadece bu projeksiyonda bulunur ve hiçbir cevaba yazılmaz.
+ * createdAt/updatedAt login cevabındaki kullanıcı için aynı sorguda okunur.
+ */
+public record UserCredentials(Long id,
+                              String email,
+                              String password,
+                              UserRole role,
+                              Long storeId,
+                              String fullName,
+                              String phone,
+                              LocalDateTime createdAt,
+                              LocalDateTime updatedAt) {
+}
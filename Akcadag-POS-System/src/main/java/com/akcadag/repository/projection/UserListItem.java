@@ -0,0 +1,16 @@
+package com.akcadag.repository.projection;
+
+import com.akcadag.domain.UserRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kullanıcı listesindeki bir satır için gereken kolonlar.
+ */
+public record UserListItem(Long id,
+                           String fullName,
+                           String email,
+                           UserRole role,
+                           Long storeId,
+                           LocalDateTime lastLoginAt) {
+}
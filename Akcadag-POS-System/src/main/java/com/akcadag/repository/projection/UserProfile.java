@@ -0,0 +1,19 @@
+package com.akcadag.repository.projection;
+
+import com.akcadag.domain.UserRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kullanıcı profili: şifre hash'i hariç tüm kolonlar.
+ */
+public record UserProfile(Long id,
+                          String fullName,
+                          String email,
+                          String phone,
+                          UserRole role,
+                          Long storeId,
+                          LocalDateTime createdAt,
+                          LocalDateTime updatedAt,
+                          LocalDateTime lastLoginAt) {
+}
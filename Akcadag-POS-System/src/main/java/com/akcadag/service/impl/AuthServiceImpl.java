@@ -1,23 +1,48 @@
 package com.akcadag.service.impl;
 
+import com.akcadag.audit.AuditEventType;
+import com.akcadag.audit.AuditJournal;
+import com.akcadag.audit.AuditReason;
+import com.akcadag.configuration.AuthMetrics;
+import com.akcadag.configuration.JwtPrincipal;
 import com.akcadag.configuration.JwtProvider;
+import com.akcadag.configuration.PasswordHashingBulkhead;
+import com.akcadag.configuration.RoleAuthorities;
+import com.akcadag.configuration.RolePermissions;
+import com.akcadag.datasource.ReadYourWrites;
+import com.akcadag.domain.Permission;
 import com.akcadag.domain.UserRole;
 import com.akcadag.exceptions.UserException;
 import com.akcadag.mapper.UserMapper;
 import com.akcadag.models.User;
+import com.akcadag.models.UserPrincipal;
 import com.akcadag.payload.dto.UserDto;
 import com.akcadag.payload.response.AuthResponse;
+import com.akcadag.payload.response.UserPageResponse;
 import com.akcadag.repository.UserRepository;
+import com.akcadag.repository.UserStreamRepository;
+import com.akcadag.repository.projection.UserCredentials;
+import com.akcadag.repository.projection.UserListItem;
 import com.akcadag.service.interfaces.AuthService;
+import com.akcadag.service.interfaces.TokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
@@ -30,33 +55,50 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final CustomUserImpl customUserImpl;
+    private final PasswordHashingBulkhead hashingBulkhead;
+    private final LastLoginBuffer lastLoginBuffer;
+    private final UserStreamRepository userStreamRepository;
+    private final ObjectMapper objectMapper;
+    private final TokenService tokenService;
+    private final AuthMetrics authMetrics;
+    private final AuditJournal auditJournal;
+    private final ReadYourWrites readYourWrites;
+    private final UserCache userCache;
+
+    @Value("${auth.users.max-page-size:200}")
+    private int maxPageSize;
 
     /**
      * Kullanıcı kayıt işlemlerini gerçekleştiren metod.
      * - Email adresi zaten kayıtlı mı kontrol eder.
-     * - Admin rolüyle kayıt yapılmasını engeller.
+     * - Admin rolüyle kayıt yapılmasını engeller; token'sız kayıtta sadece kasiyer / kullanıcı rolü seçilebilir.
      * - Kullanıcı bilgilerini kaydeder.
      * - JWT token üretir ve AuthResponse olarak döner.
      */
     @Override
     public AuthResponse signUp(UserDto userDto) throws UserException {
         // Eğer email adresi daha önce kullanılmışsa hata fırlatılır
-        User user = userRepository.findByEmail(userDto.getEmail());
-        if (user != null) {
+        if (userRepository.existsByEmail(userDto.getEmail())) {
             throw new UserException("Email Id already registered!");
         }
 
-        // Admin rolüyle kayıt yapılmasına izin verilmez
-        if (userDto.getRole().equals(UserRole.ROLE_ADMIN)) {
+        // Yönetici rolleriyle (admin, mağaza admini, süper admin) kayıt yapılmasına izin verilmez
+        if (userDto.getRole() == null || userDto.getRole().isAdministrative()) {
             throw new UserException("Role Admin is not allowed!");
         }
+        // Müdür rolleri iade / iptal / stok yetkisi taşır; sadece çalışan yöneten bir hesap verebilir
+        if (!userDto.getRole().isSelfRegistrable() && currentEmployeeManager() == null) {
+            throw new UserException("Role " + userDto.getRole() + " can only be assigned by a store admin");
+        }
 
         // Yeni kullanıcı nesnesi oluşturuluyor
         User newUser = new User();
         newUser.setEmail(userDto.getEmail());
-        // Kullanıcı şifresi güvenlik için BCrypt ile hashleniyor
-        newUser.setPassword(passwordEncoder.encode(userDto.getPassword()));
+        // Kullanıcı şifresi güvenlik için BCrypt ile hashleniyor (ayrı hashing havuzunda)
+        newUser.setPassword(hashingBulkhead.execute(
+                () -> authMetrics.passwordHash().record(() -> passwordEncoder.encode(userDto.getPassword()))));
         newUser.setRole(userDto.getRole());
+        newUser.setStoreId(assignableStoreId(userDto.getStoreId()));
         newUser.setFullName(userDto.getFullName());
         newUser.setPhone(userDto.getPhone());
         newUser.setLastLoginAt(LocalDateTime.now());
@@ -64,21 +106,28 @@ public class AuthServiceImpl implements AuthService {
 
         // Yeni kullanıcı veritabanına kaydediliyor
         User savedUser = userRepository.save(newUser);
+        // Replikalar yetişene kadar yeni kullanıcının okumaları (login, profil) primary'den yapılır
+        readYourWrites.recordWrite(savedUser.getEmail());
+        // Kayıttan önce başlamış bir cache yüklemesi (kullanıcı yok) sonucunu yazmasın
+        userCache.evict(savedUser.getId(), savedUser.getEmail());
 
-        // Kullanıcı için bir Authentication nesnesi oluşturuluyor
-        Authentication authentication =
-                new UsernamePasswordAuthenticationToken(userDto.getEmail(), userDto.getPassword());
+        // Kullanıcı için bir Authentication nesnesi oluşturuluyor (token'a rolü de yazılsın diye authority ile)
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                savedUser.getEmail(), null, RoleAuthorities.authoritiesOf(savedUser.getRole()));
 
         // SecurityContext'e bu authentication bilgisi ekleniyor
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         // Kullanıcıya özel JWT token oluşturuluyor
-        String jwt = jwtProvider.generateToken(authentication);
+        String jwt = jwtProvider.generateToken(authentication, savedUser.getStoreId());
 
         // AuthResponse nesnesi oluşturuluyor ve geriye döndürülüyor
         AuthResponse authResponse = new AuthResponse();
         authResponse.setJwt(jwt);
+        authResponse.setRefreshToken(tokenService.createRefreshToken(savedUser.getId()));
         authResponse.setMessage("Register Successfully!");
+
+        auditJournal.record(AuditEventType.SIGNUP, AuditReason.NONE, savedUser.getEmail());
         authResponse.setUser(UserMapper.toDTO(savedUser));
 
         return authResponse;
@@ -95,8 +144,11 @@ public class AuthServiceImpl implements AuthService {
         String email = userDto.getEmail();
         String password = userDto.getPassword();
 
-        // Email ve şifre doğrulanıyor
-        Authentication authentication = authenticate(email, password);
+        // Email ve şifre doğrulanıyor; kullanıcı yakın zamanda yazdıysa (ör. yeni kayıt) primary'den okunur
+        Authentication authentication;
+        try (ReadYourWrites.Scope ignored = readYourWrites.subject(email)) {
+            authentication = authenticate(email, password);
+        }
 
         // Doğrulama başarılıysa SecurityContext'e ekleniyor
         SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -108,26 +160,94 @@ public class AuthServiceImpl implements AuthService {
         // JWT token üretiliyor
         String jwt = jwtProvider.generateToken(authentication);
 
-        // Kullanıcının son giriş tarihi güncelleniyor
-        User user = userRepository.findByEmail(email);
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        // Kullanıcı authenticate sırasında zaten yüklendi, tekrar sorgulanmaz
+        UserCredentials user = ((UserPrincipal) authentication.getPrincipal()).getUser();
+
+        // Kullanıcının son giriş tarihi buffer'a yazılır, veritabanına toplu olarak aktarılır
+        LocalDateTime lastLoginAt = LocalDateTime.now();
+        lastLoginBuffer.record(user.id(), lastLoginAt);
+
+        UserDto loggedInUser = UserMapper.toDTO(user);
+        loggedInUser.setLastLoginAt(lastLoginAt);
 
         // AuthResponse nesnesi oluşturuluyor ve geriye döndürülüyor
         AuthResponse authResponse = new AuthResponse();
         authResponse.setJwt(jwt);
+        authResponse.setRefreshToken(tokenService.createRefreshToken(user.id()));
         authResponse.setMessage("Login Successfully!");
-        authResponse.setUser(UserMapper.toDTO(user));
+
+        auditJournal.record(AuditEventType.LOGIN_SUCCESS, AuditReason.NONE, email);
+        authResponse.setUser(loggedInUser);
 
         return authResponse;
     }
 
+    /**
+     * Kullanıcıları id üzerinden keyset (cursor) sayfalama ile döndürür.
+     * - after: önceki sayfanın nextCursor değeri (ilk sayfa için null)
+     * - size: sayfa boyutu, auth.users.max-page-size ile sınırlıdır
+     * - storeId: verilirse sadece o mağazanın kullanıcıları (mağaza indeksinden) okunur
+     */
     @Override
-    public List<UserDto> getAllUsers() {
-        return userRepository.findAll()
+    public UserPageResponse getUsers(Long after, int size, UserRole role, Long storeId) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        long afterId = after == null ? 0L : after;
+
+        List<UserListItem> items = storeId == null
+                ? userRepository.findPageAfter(afterId, role, Limit.of(pageSize))
+                : userRepository.findStorePageAfter(storeId, afterId, role, Limit.of(pageSize));
+        List<UserDto> users = items
                 .stream()
-                .map(UserMapper::toDTO) // Eğer MapStruct veya kendi mapper’ınız varsa
+                .map(UserMapper::toDTO)
                 .toList();
+
+        UserPageResponse page = new UserPageResponse();
+        page.setUsers(users);
+        // Sayfa dolu geldiyse devamı olabilir, son id bir sonraki sayfanın cursor'ıdır
+        page.setNextCursor(users.size() == pageSize ? users.get(users.size() - 1).getId() : null);
+        return page;
+    }
+
+    /**
+     * Kullanıcı sayfasını doğrudan çıkış akışına yazar (gerekirse sıkıştırmayı controller yapar).
+     */
+    @Override
+    public void writeUserPage(UserPageResponse page, OutputStream outputStream) throws IOException {
+        objectMapper.writeValue(outputStream, page);
+    }
+
+    /**
+     * Tüm kullanıcıları tek bir JSON dizisi olarak yazar (/auth/users varsayılan cevabı).
+     * Satırlar NDJSON akışında olduğu gibi okundukça yazılır, liste belleğe alınmaz.
+     */
+    @Override
+    public void writeUsers(UserRole role, Long storeId, OutputStream outputStream) throws IOException {
+        writeAll(role, storeId, objectMapper.writer().writeValuesAsArray(outputStream));
+    }
+
+    /**
+     * Tüm kullanıcıları NDJSON (satır başına bir JSON) olarak akıtır.
+     * Satırlar veritabanından fetch size ile okunur ve okundukça yazılır, bellek kullanımı sabit kalır.
+     */
+    @Override
+    public void streamUsers(UserRole role, Long storeId, OutputStream outputStream) throws IOException {
+        writeAll(role, storeId, objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream));
+    }
+
+    private void writeAll(UserRole role, Long storeId, SequenceWriter sequenceWriter) throws IOException {
+        try (SequenceWriter writer = sequenceWriter) {
+            userStreamRepository.forEach(role, storeId, userDto -> {
+                try {
+                    writer.write(userDto);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     /**
@@ -138,15 +258,25 @@ public class AuthServiceImpl implements AuthService {
      */
     private Authentication authenticate(String email, String password) throws UserException {
         // Kullanıcı bilgileri veritabanından alınıyor
-        UserDetails userDetails = customUserImpl.loadUserByUsername(email);
+        UserDetails userDetails;
+        try {
+            userDetails = customUserImpl.loadUserByUsername(email);
+        } catch (UsernameNotFoundException e) {
+            auditJournal.record(AuditEventType.LOGIN_FAILURE, AuditReason.UNKNOWN_USER, email);
+            throw e;
+        }
 
         // Kullanıcı bulunamazsa hata fırlatılır
         if (userDetails == null) {
+            auditJournal.record(AuditEventType.LOGIN_FAILURE, AuditReason.UNKNOWN_USER, email);
             throw new UserException("Email Id doesn't exist " + email);
         }
 
-        // Girilen şifre ile veritabanındaki hashlenmiş şifre karşılaştırılır
-        if (!passwordEncoder.matches(password, userDetails.getPassword())) {
+        // Girilen şifre ile veritabanındaki hashlenmiş şifre karşılaştırılır (ayrı hashing havuzunda)
+        boolean matches = hashingBulkhead.execute(
+                () -> authMetrics.passwordVerify().record(() -> passwordEncoder.matches(password, userDetails.getPassword())));
+        if (!matches) {
+            auditJournal.record(AuditEventType.LOGIN_FAILURE, AuditReason.BAD_CREDENTIALS, email);
             throw new UserException("Password doesn't match");
         }
 
@@ -157,4 +287,35 @@ public class AuthServiceImpl implements AuthService {
                 userDetails.getAuthorities()
         );
     }
+
+    /**
+     * Kayıtta mağaza sadece çalışan yönetme yetkisi olan bir token ile atanabilir:
+     * zincir geneli yönetici istediği mağazayı, mağaza admini sadece kendi mağazasını seçer.
+     * Token'sız (herkese açık) kayıtta istemcinin gönderdiği storeId yok sayılır.
+     */
+    private static Long assignableStoreId(Long requested) {
+        JwtPrincipal principal = currentEmployeeManager();
+        if (principal == null) {
+            return null;
+        }
+        if (principal.storeId() == null) {
+            return requested;
+        }
+        if (requested != null && !requested.equals(principal.storeId())) {
+            throw new AccessDeniedException("Users of store " + requested + " can not be created by this account");
+        }
+        return principal.storeId();
+    }
+
+    /**
+     * İsteği yapan token EMPLOYEE_MANAGE yetkisine sahipse principal'ı, değilse (herkese açık kayıt) null döner.
+     */
+    private static JwtPrincipal currentEmployeeManager() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof JwtPrincipal principal
+                && principal.has(RolePermissions.bit(Permission.EMPLOYEE_MANAGE))) {
+            return principal;
+        }
+        return null;
+    }
 }
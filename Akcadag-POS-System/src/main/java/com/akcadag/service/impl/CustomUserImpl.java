@@ -1,7 +1,8 @@
 package com.akcadag.service.impl;
 
-import com.akcadag.models.User;
+import com.akcadag.models.UserPrincipal;
 import com.akcadag.repository.UserRepository;
+import com.akcadag.repository.projection.UserCredentials;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -10,7 +11,6 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -18,20 +18,22 @@ import java.util.Collections;
 public class CustomUserImpl implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private UserCache userCache;
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user=userRepository.findByEmail(username);
+        UserCredentials user=userCache.getCredentials(username, userRepository::findCredentialsByEmail);
         if (user==null){
             throw new UsernameNotFoundException("User not found!");
         }
 
         GrantedAuthority authority=new SimpleGrantedAuthority(
-                user.getRole().toString()
+                user.role().toString()
         );
 
         Collection<GrantedAuthority> authorities= Collections.singletonList(authority);
 
-        return  new org.springframework.security.core.userdetails.User(user.getEmail(),user.getPassword(),authorities);
+        return new UserPrincipal(user, authorities);
 
     }
 }
@@ -0,0 +1,151 @@
+package com.akcadag.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ *  LastLoginBuffer
+ * Login sırasında lastLoginAt güncellemesini hemen veritabanına yazmak yerine bellekte biriktirir.
+ * Her kullanıcı için sadece en son zaman tutulur; birikenler zamanlayıcı ile veya
+ * buffer dolduğunda tek bir JDBC batch UPDATE ile yazılır. Uygulama kapanırken kalanlar boşaltılır.
+ * Yazma başarısız olursa kayıtlar buffer'a geri konur ve bir sonraki deneme üstel artan bir
+ * bekleme (backoff) sonrasına bırakılır; veritabanı kesintisinde flush döngüye girmez.
+ */
+@Slf4j
+@Component
+public class LastLoginBuffer {
+
+    private static final String UPDATE_SQL = "update users set last_login_at = ? where id = ?";
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskScheduler taskScheduler;
+    private final UserCache userCache;
+    private final int maxPending;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+
+    //  Başarısız yazmadan sonra bu ana kadar flush denenmez (System.nanoTime); flushLock altında güncellenir
+    private volatile long retryAtNanos;
+    private volatile Duration backoff = Duration.ZERO;
+
+    public LastLoginBuffer(JdbcTemplate jdbcTemplate,
+                           TaskScheduler taskScheduler,
+                           UserCache userCache,
+                           @Value("${auth.last-login.max-pending:500}") int maxPending,
+                           @Value("${auth.last-login.retry-min-backoff:1s}") Duration minBackoff,
+                           @Value("${auth.last-login.retry-max-backoff:1m}") Duration maxBackoff) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskScheduler = taskScheduler;
+        this.userCache = userCache;
+        this.maxPending = maxPending;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Kullanıcının son giriş zamanını buffer'a ekler (aynı kullanıcı için en yeni zaman kalır).
+     */
+    public void record(Long userId, LocalDateTime lastLoginAt) {
+        pending.merge(userId, lastLoginAt, (old, now) -> now.isAfter(old) ? now : old);
+
+        // Buffer dolduysa yazma işi request thread'inde değil zamanlayıcı thread'inde yapılır
+        // (son yazma başarısız olduysa backoff dolana kadar beklenir)
+        if (pending.size() >= maxPending && !backingOff() && flushScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                flushScheduled.set(false);
+                flush();
+            }, Instant.now());
+        }
+    }
+
+    /**
+     * Biriken güncellemeleri tek bir batch UPDATE ile yazar.
+     */
+    @Scheduled(fixedDelayString = "${auth.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty() || backingOff() || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            writePending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Uygulama kapanırken, devam eden yazmanın bitmesi beklenir ve kalanlar yazılır.
+     */
+    @PreDestroy
+    public void drain() {
+        flushLock.lock();
+        try {
+            writePending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void writePending() {
+        Map<Long, LocalDateTime> drained = new HashMap<>();
+        for (Map.Entry<Long, LocalDateTime> entry : pending.entrySet()) {
+            // Sadece okuduğumuz değer hala aynıysa kaldırılır, arada gelen yeni zaman kaybolmaz
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                drained.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(drained.size());
+        drained.forEach((id, lastLoginAt) -> batch.add(new Object[]{Timestamp.valueOf(lastLoginAt), id}));
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            backoff = Duration.ZERO;
+            // Cache'teki eski lastLoginAt değerleri bir sonraki okumada yenilenir
+            drained.keySet().forEach(userCache::evictById);
+            log.debug("Flushed {} lastLoginAt updates", batch.size());
+        } catch (RuntimeException e) {
+            // Yazılamayanlar doğrudan buffer'a geri konur (arada gelen daha yeni zaman korunur);
+            // record() kullanılmaz, o hemen yeni bir flush tetiklerdi
+            drained.forEach((id, lastLoginAt) -> pending.merge(id, lastLoginAt, (current, failed) -> current.isAfter(failed) ? current : failed));
+            backoff = backoff.isZero() ? minBackoff : min(backoff.multipliedBy(2), maxBackoff);
+            retryAtNanos = System.nanoTime() + backoff.toNanos();
+            log.warn("Could not flush {} lastLoginAt updates, will retry in {}", batch.size(), backoff, e);
+        }
+    }
+
+    private boolean backingOff() {
+        return !backoff.isZero() && System.nanoTime() - retryAtNanos < 0;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
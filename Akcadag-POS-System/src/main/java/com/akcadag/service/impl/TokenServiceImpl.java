@@ -0,0 +1,274 @@
+package com.akcadag.service.impl;
+
+import com.akcadag.configuration.JwtPrincipal;
+import com.akcadag.configuration.JwtProvider;
+import com.akcadag.configuration.RoleAuthorities;
+import com.akcadag.configuration.TokenRevocationIndex;
+import com.akcadag.exceptions.UserException;
+import com.akcadag.mapper.UserMapper;
+import com.akcadag.models.RefreshToken;
+import com.akcadag.models.TokenRevocation;
+import com.akcadag.payload.response.AuthResponse;
+import com.akcadag.repository.RefreshTokenRepository;
+import com.akcadag.repository.TokenRevocationRepository;
+import com.akcadag.repository.UserRepository;
+import com.akcadag.repository.projection.UserProfile;
+import com.akcadag.service.interfaces.TokenService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ *  TokenServiceImpl
+ * Refresh token üretimi/rotation'ı ve access token iptali.
+ * - Refresh token'lar tek kullanımlıktır; her /auth/refresh çağrısında yenisi verilir.
+ *   Kullanılmış bir token tekrar gelirse aynı ailedeki tüm refresh token'lar iptal edilir.
+ * - İptaller veritabanına yazılır ve TokenRevocationIndex'e eklenir. İndeks açılışta
+ *   veritabanından yüklenir ve diğer node'ların iptalleri için periyodik olarak senkronize edilir.
+ */
+@Slf4j
+@Service
+public class TokenServiceImpl implements TokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    // Eş zamanlı transaction'larda createdAt sırası commit sırası olmayabilir, pencere biraz geriden okunur
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final TokenRevocationIndex revocationIndex;
+    private final JwtProvider jwtProvider;
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final Duration refreshTokenTtl;
+
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
+                            TokenRevocationRepository tokenRevocationRepository,
+                            TokenRevocationIndex revocationIndex,
+                            JwtProvider jwtProvider,
+                            UserRepository userRepository,
+                            UserCache userCache,
+                            @Value("${jwt.refresh-token.ttl:30d}") Duration refreshTokenTtl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.revocationIndex = revocationIndex;
+        this.jwtProvider = jwtProvider;
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    /**
+     * Login/signup sonrası yeni bir refresh token ailesi başlatır.
+     */
+    @Override
+    public String createRefreshToken(Long userId) {
+        return createRefreshToken(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Refresh token'ı kullanır ve yeni access + refresh token döner (rotation).
+     */
+    @Override
+    @Transactional
+    public AuthResponse refresh(String refreshToken) throws UserException {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new UserException("Refresh token is required");
+        }
+
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new UserException("Invalid refresh token"));
+
+        Instant now = Instant.now();
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new UserException("Refresh token expired");
+        }
+
+        // Token daha önce kullanılmış veya iptal edilmiş: çalınmış olabilir, tüm aile iptal edilir
+        // (UserException checked olduğu için transaction rollback olmaz, iptal kalıcıdır)
+        if (refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Refresh token reuse detected for user {}, family {} revoked",
+                    current.getUserId(), current.getFamilyId());
+            throw new UserException("Refresh token already used");
+        }
+
+        UserProfile user = userCache.getProfileById(current.getUserId(), userRepository::findProfileById)
+                .orElseThrow(() -> new UserException("User not found"));
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                user.email(), null, RoleAuthorities.authoritiesOf(user.role()));
+
+        AuthResponse authResponse = new AuthResponse();
+        authResponse.setJwt(jwtProvider.generateToken(authentication, user.storeId()));
+        authResponse.setRefreshToken(createRefreshToken(user.id(), current.getFamilyId()));
+        authResponse.setMessage("Token refreshed");
+        authResponse.setUser(UserMapper.toDTO(user));
+        return authResponse;
+    }
+
+    /**
+     * Mevcut access token'ı ve (verildiyse) refresh token ailesini iptal eder.
+     */
+    @Override
+    @Transactional
+    public void logout(String jwt, String refreshToken) {
+        if (jwt != null && jwt.startsWith("Bearer ")) {
+            try {
+                Claims claims = jwtProvider.parseClaims(jwt.substring(7));
+                // Eski (jti'siz) token'lar tek tek iptal edilemez, kısa sürede zaten düşerler
+                if (claims.getId() != null) {
+                    Instant expiresAt = claims.getExpiration().toInstant();
+                    TokenRevocation revocation = new TokenRevocation();
+                    revocation.setJti(claims.getId());
+                    revocation.setExpiresAt(expiresAt);
+                    save(revocation);
+                    revocationIndex.revokeToken(claims.getId(), expiresAt);
+                }
+            } catch (JwtException e) {
+                // Geçersiz veya süresi dolmuş token için iptal gerekmez
+            }
+        }
+
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                    .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), Instant.now()));
+        }
+    }
+
+    /**
+     * Kullanıcının tüm oturumlarını kapatır (ör. çalınan terminal): o ana kadar üretilmiş
+     * tüm access token'lar ve refresh token'lar geçersiz olur.
+     * Mağazaya bağlı token (mağaza admini) sadece kendi mağazasındaki kullanıcıların oturumlarını kapatabilir.
+     */
+    @Override
+    @Transactional
+    public void revokeUserSessions(Long userId) throws UserException {
+        UserProfile user = userCache.getProfileById(userId, userRepository::findProfileById)
+                .orElseThrow(() -> new UserException("User not found"));
+        checkSameStore(user);
+
+        Instant now = Instant.now();
+        // Üretilme zamanı jti'den milisaniye hassasiyetinde okunur (TokenIds); bu milisaniyede üretilenler
+        // de iptal sayılır, iptalden sonraki yeni login ise geçerli kalır
+        Instant issuedBefore = now.truncatedTo(ChronoUnit.MILLIS).plusMillis(1);
+        Instant expiresAt = issuedBefore.plus(jwtProvider.getAccessTokenTtl());
+
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setEmail(user.email());
+        revocation.setIssuedBefore(issuedBefore);
+        revocation.setExpiresAt(expiresAt);
+        save(revocation);
+        revocationIndex.revokeUser(user.email(), issuedBefore, expiresAt);
+
+        refreshTokenRepository.revokeAllForUser(userId, now);
+    }
+
+    private static void checkSameStore(UserProfile user) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof JwtPrincipal principal
+                && principal.storeId() != null && !principal.storeId().equals(user.storeId())) {
+            throw new AccessDeniedException("Sessions of user " + user.id() + " can not be revoked by this account");
+        }
+    }
+
+    /**
+     * Açılışta süresi dolmamış tüm iptaller veritabanından indekse yüklenir.
+     */
+    @PostConstruct
+    public void loadRevocations() {
+        syncRevocations();
+        log.info("Loaded token revocation index: {} token(s), {} user cutoff(s)",
+                revocationIndex.revokedTokenCount(), revocationIndex.userCutoffCount());
+    }
+
+    /**
+     * Diğer node'larda yapılan iptalleri indekse ekler.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public void syncRevocations() {
+        Instant now = Instant.now();
+        Instant since = lastSync.equals(Instant.EPOCH) ? Instant.EPOCH : lastSync.minus(SYNC_OVERLAP);
+        List<TokenRevocation> revocations = tokenRevocationRepository.findActiveCreatedAfter(since, now);
+        for (TokenRevocation revocation : revocations) {
+            apply(revocation);
+        }
+        lastSync = now;
+    }
+
+    /**
+     * Süresi dolmuş iptal ve refresh token kayıtlarını veritabanından siler.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int revocations = tokenRevocationRepository.deleteExpired(now);
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        if (revocations > 0 || refreshTokens > 0) {
+            log.debug("Purged {} expired revocation(s) and {} refresh token(s)", revocations, refreshTokens);
+        }
+    }
+
+    private void apply(TokenRevocation revocation) {
+        if (revocation.getJti() != null) {
+            revocationIndex.revokeToken(revocation.getJti(), revocation.getExpiresAt());
+        }
+        if (revocation.getEmail() != null) {
+            revocationIndex.revokeUser(revocation.getEmail(), revocation.getIssuedBefore(), revocation.getExpiresAt());
+        }
+    }
+
+    private void save(TokenRevocation revocation) {
+        revocation.setCreatedAt(Instant.now());
+        tokenRevocationRepository.save(revocation);
+    }
+
+    private String createRefreshToken(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant now = Instant.now();
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setUserId(userId);
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setCreatedAt(now);
+        refreshToken.setExpiresAt(now.plus(refreshTokenTtl));
+        refreshTokenRepository.save(refreshToken);
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.akcadag.service.impl;
+
+import com.akcadag.repository.projection.UserCredentials;
+import com.akcadag.repository.projection.UserProfile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ *  UserCache
+ * Email ve id ile yapılan kullanıcı sorguları için uygulama içi (near) cache.
+ * Kayıtlar TTL ve maksimum boyuta göre düşer; servis katmanındaki yazma işlemleri ilgili kaydı siler.
+ * Cache'te sadece değiştirilemez projeksiyonlar (record) tutulur, kopyalamaya gerek yoktur.
+ * Veritabanı sorgusu Caffeine'in compute kilidi dışında yapılır; böylece sanal thread'ler
+ * (virtual threads) yükleme sırasında taşıyıcı thread'e sabitlenmez (pinning).
+ * Aynı anahtar için eşzamanlı yüklemeler tek sorguda birleşir (diğer thread'ler sonucu bekler).
+ * Her evict bir nesil (generation) sayacını artırır; yükleme sürerken evict olduysa yüklenen
+ * (muhtemelen eski) değer cache'e yazılmaz, böylece eski şifre hash'i veya rol cache'te kalmaz.
+ * Profiller tek bir sınırlı cache'te (mağaza, email / id) anahtarıyla tutulur; toplam boyut mağaza
+ * sayısından bağımsızdır. Caffeine'in sıklık tabanlı kabul politikası (W-TinyLFU) sayesinde kalabalık
+ * bir mağazanın tek seferlik kayıtları diğer mağazaların sık okunan kayıtlarını düşüremez.
+ */
+@Component
+public class UserCache {
+
+    //  Mağazaya bağlı olmayan (zincir geneli) kullanıcıların anahtarı
+    private static final long CHAIN_WIDE = Long.MIN_VALUE;
+
+    /**
+     * Profil anahtarı: mağaza ve email (String) veya id (Long).
+     */
+    private record ProfileKey(long store, Object key) {
+    }
+
+    /**
+     * Devam eden yüklemenin anahtarı: tür (credentials / email / id) ve değer.
+     */
+    private record LoadKey(String kind, Object key) {
+    }
+
+    private final Cache<String, UserCredentials> credentialsByEmail;
+    private final Cache<ProfileKey, UserProfile> profiles;
+    //  email / id → profilin mağazası
+    private final Cache<String, Long> storeByEmail;
+    private final Cache<Long, Long> storeById;
+
+    //  Devam eden veritabanı yüklemeleri; aynı anahtarı isteyen thread'ler bunu bekler
+    private final ConcurrentMap<LoadKey, CompletableFuture<?>> loading = new ConcurrentHashMap<>();
+    //  Her evict'te artar; yükleme bitince değişmişse sonuç cache'e yazılmaz
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserCache(@Value("${user.cache.ttl:5m}") Duration ttl,
+                     @Value("${user.cache.max-size:10000}") long maxSize) {
+        this.credentialsByEmail = newCache(ttl, maxSize);
+        //  Her profil email ve id anahtarıyla iki kayıt tutar
+        this.profiles = newCache(ttl, 2 * maxSize);
+        this.storeByEmail = newCache(ttl, maxSize);
+        this.storeById = newCache(ttl, maxSize);
+    }
+
+    /**
+     * Login için kullanıcı bilgilerini email ile getirir, yoksa loader ile yükler.
+     * Bulunamayan kullanıcılar cache'e yazılmaz.
+     */
+    public UserCredentials getCredentials(String email, Function<String, Optional<UserCredentials>> loader) {
+        if (email == null) {
+            return null;
+        }
+        UserCredentials cached = credentialsByEmail.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+        return load(new LoadKey("credentials", email), () -> loader.apply(email).orElse(null),
+                loaded -> credentialsByEmail.put(email, loaded),
+                loaded -> credentialsByEmail.invalidate(email));
+    }
+
+    /**
+     * Kullanıcı profilini email ile cache'ten getirir, yoksa loader ile yükler.
+     */
+    public Optional<UserProfile> getProfileByEmail(String email, Function<String, Optional<UserProfile>> loader) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        Long store = storeByEmail.getIfPresent(email);
+        UserProfile cached = store != null ? profiles.getIfPresent(new ProfileKey(store, email)) : null;
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return Optional.ofNullable(load(new LoadKey("email", email), () -> loader.apply(email).orElse(null),
+                this::putProfile, this::removeProfile));
+    }
+
+    /**
+     * Kullanıcı profilini id ile cache'ten getirir, yoksa loader ile yükler.
+     */
+    public Optional<UserProfile> getProfileById(Long id, Function<Long, Optional<UserProfile>> loader) {
+        Long store = storeById.getIfPresent(id);
+        UserProfile cached = store != null ? profiles.getIfPresent(new ProfileKey(store, id)) : null;
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return Optional.ofNullable(load(new LoadKey("id", id), () -> loader.apply(id).orElse(null),
+                this::putProfile, this::removeProfile));
+    }
+
+    /**
+     * Değeri veritabanından bir kez yükler; aynı anahtar zaten yükleniyorsa onun sonucunu bekler.
+     * Yükleme sırasında (veya yazarken) evict olduysa yazılan kayıt geri alınır.
+     * Bulunamayan (null) değerler cache'e yazılmaz.
+     */
+    @SuppressWarnings("unchecked")
+    private <V> V load(LoadKey loadKey, Supplier<V> loader, Consumer<V> put, Consumer<V> remove) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = (CompletableFuture<V>) loading.putIfAbsent(loadKey, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            long startGeneration = generation.get();
+            V loaded = loader.get();
+            if (loaded != null && generation.get() == startGeneration) {
+                put.accept(loaded);
+                //  Yazma ile kontrol arasında evict olduysa kayıt geri alınır
+                if (generation.get() != startGeneration) {
+                    remove.accept(loaded);
+                }
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(loadKey, mine);
+        }
+    }
+
+    private void putProfile(UserProfile profile) {
+        long store = storeOf(profile);
+        profiles.put(new ProfileKey(store, profile.email()), profile);
+        profiles.put(new ProfileKey(store, profile.id()), profile);
+        storeByEmail.put(profile.email(), store);
+        storeById.put(profile.id(), store);
+    }
+
+    private void removeProfile(UserProfile profile) {
+        long store = storeOf(profile);
+        profiles.invalidate(new ProfileKey(store, profile.email()));
+        profiles.invalidate(new ProfileKey(store, profile.id()));
+        storeByEmail.invalidate(profile.email());
+        storeById.invalidate(profile.id());
+    }
+
+    /**
+     * Kullanıcıya ait tüm kayıtları siler; kullanıcı satırı yazıldığında (signup, içeri aktarma) çağrılır.
+     * Nesil sayacı arttığı için yazmadan önce başlamış yüklemeler sonuçlarını cache'e koymaz.
+     */
+    public void evict(Long id, String email) {
+        generation.incrementAndGet();
+        evictById(id);
+        Long store = storeByEmail.getIfPresent(email);
+        if (store != null) {
+            profiles.invalidate(new ProfileKey(store, email));
+        }
+        storeByEmail.invalidate(email);
+        credentialsByEmail.invalidate(email);
+    }
+
+    /**
+     * Sadece profil kayıtlarını siler (ör. lastLoginAt güncellemesinden sonra).
+     */
+    public void evictById(Long id) {
+        generation.incrementAndGet();
+        Long store = storeById.getIfPresent(id);
+        storeById.invalidate(id);
+        if (store == null) {
+            return;
+        }
+        UserProfile cached = profiles.getIfPresent(new ProfileKey(store, id));
+        profiles.invalidate(new ProfileKey(store, id));
+        if (cached != null) {
+            profiles.invalidate(new ProfileKey(store, cached.email()));
+            storeByEmail.invalidate(cached.email());
+        }
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        credentialsByEmail.invalidateAll();
+        profiles.invalidateAll();
+        storeByEmail.invalidateAll();
+        storeById.invalidateAll();
+    }
+
+    public CacheStats credentialsStats() {
+        return credentialsByEmail.stats();
+    }
+
+    public CacheStats profileStats() {
+        return profiles.stats();
+    }
+
+    public long credentialsSize() {
+        return credentialsByEmail.estimatedSize();
+    }
+
+    public long profileSize() {
+        return profiles.estimatedSize();
+    }
+
+    /**
+     * Mağaza → cache'teki profil sayısı (zincir geneli kullanıcılar "chain" anahtarıyla).
+     * Cache'i baştan sona gezer; sadece actuator için kullanılır.
+     */
+    public Map<String, Long> storeSizes() {
+        Map<String, Long> sizes = new TreeMap<>();
+        profiles.asMap().keySet().stream()
+                .filter(key -> key.key() instanceof Long)
+                .forEach(key -> sizes.merge(key.store() == CHAIN_WIDE ? "chain" : Long.toString(key.store()), 1L, Long::sum));
+        return sizes;
+    }
+
+    private static long storeOf(UserProfile profile) {
+        return profile.storeId() != null ? profile.storeId() : CHAIN_WIDE;
+    }
+
+    private static <K, V> Cache<K, V> newCache(Duration ttl, long maxSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
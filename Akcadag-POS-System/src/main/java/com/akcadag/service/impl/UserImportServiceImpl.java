@@ -0,0 +1,280 @@
+package com.akcadag.service.impl;
+
+import com.akcadag.configuration.PasswordHashingBulkhead;
+import com.akcadag.domain.UserRole;
+import com.akcadag.exceptions.UserException;
+import com.akcadag.models.User;
+import com.akcadag.payload.dto.UserDto;
+import com.akcadag.payload.response.UserImportResponse;
+import com.akcadag.payload.response.UserImportResult;
+import com.akcadag.payload.response.UserImportResult.Status;
+import com.akcadag.repository.UserRepository;
+import com.akcadag.service.interfaces.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ *  UserImportServiceImpl
+ * Yeni mağaza açılışında kasiyer hesaplarını toplu oluşturur.
+ * - Kayıtlı email'ler tek bir "in" sorgusuyla kontrol edilir (satır başına sorgu yok).
+ * - Şifreler BCrypt hashing havuzunda paralel hashlenir.
+ * - Kullanıcılar tek transaction'da kaydedilir; pooled sequence sayesinde Hibernate
+ *   INSERT'leri JDBC batch ile gönderir (hibernate.jdbc.batch_size).
+ * Her satır için CREATED / DUPLICATE / INVALID sonucu döner; hatalı satırlar diğerlerini engellemez.
+ * Kontrol ile INSERT arasında aynı email'le signup yapılırsa (unique ihlali) batch geri alınır,
+ * çakışan satırlar DUPLICATE olarak raporlanır ve kalanlar tekrar kaydedilir.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final List<String> CSV_COLUMNS = List.of("fullName", "email", "password", "phone", "role", "storeId");
+    // Çok uzun "in" listelerinden kaçınmak için email kontrolü parçalar halinde yapılır
+    private static final int EXISTING_EMAIL_CHUNK = 1000;
+    // Her denemede yeni çakışmalar ayıklanır; sürekli yarışan signup'lara karşı deneme sayısı sınırlıdır
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingBulkhead hashingBulkhead;
+    private final UserCache userCache;
+
+    @Value("${auth.import.max-rows:1000}")
+    private int maxRows;
+
+    /**
+     * JSON ile gelen kullanıcı listesini içeri aktarır.
+     */
+    @Override
+    public UserImportResponse importUsers(List<UserDto> users) throws UserException {
+        if (users == null || users.isEmpty()) {
+            throw new UserException("No users to import");
+        }
+        if (users.size() > maxRows) {
+            throw new UserException("Too many rows, max " + maxRows);
+        }
+
+        UserImportResult[] results = new UserImportResult[users.size()];
+        Map<Integer, UserDto> candidates = new HashMap<>();
+        Set<String> seenEmails = new HashSet<>();
+
+        // 1) Satır doğrulama ve dosya içindeki tekrarlar
+        for (int i = 0; i < users.size(); i++) {
+            UserDto user = users.get(i);
+            if (user == null) {
+                results[i] = failure(i + 1, null, Status.INVALID, "Empty row");
+                continue;
+            }
+            String error = validate(user);
+            if (error != null) {
+                results[i] = failure(i + 1, user.getEmail(), Status.INVALID, error);
+            } else if (!seenEmails.add(user.getEmail())) {
+                results[i] = failure(i + 1, user.getEmail(), Status.DUPLICATE, "Email repeated in import");
+            } else {
+                candidates.put(i, user);
+            }
+        }
+
+        // 2) Veritabanında zaten kayıtlı email'ler
+        Set<String> existing = findExistingEmails(new ArrayList<>(seenEmails));
+        candidates.entrySet().removeIf(entry -> {
+            if (existing.contains(entry.getValue().getEmail())) {
+                int i = entry.getKey();
+                results[i] = failure(i + 1, entry.getValue().getEmail(), Status.DUPLICATE, "Email Id already registered!");
+                return true;
+            }
+            return false;
+        });
+
+        // 3) Şifreler paralel hashlenir, kullanıcılar toplu kaydedilir
+        List<Integer> rows = candidates.keySet().stream().sorted().toList();
+        List<Supplier<String>> hashTasks = rows.stream()
+                .map(i -> (Supplier<String>) () -> passwordEncoder.encode(candidates.get(i).getPassword()))
+                .toList();
+        List<String> hashes = hashingBulkhead.executeAll(hashTasks);
+        Map<Integer, String> hashByRow = new HashMap<>();
+        for (int k = 0; k < rows.size(); k++) {
+            hashByRow.put(rows.get(k), hashes.get(k));
+        }
+
+        // 4) Toplu kayıt; arada kaydolan email'ler ayıklanıp kalanlar yeniden denenir
+        LocalDateTime now = LocalDateTime.now();
+        List<User> saved = List.of();
+        for (int attempt = 1; !rows.isEmpty(); attempt++) {
+            try {
+                saved = userRepository.saveAll(newUsers(rows, candidates, hashByRow, now));
+                break;
+            } catch (DataIntegrityViolationException e) {
+                Set<String> registered = findExistingEmails(rows.stream().map(i -> candidates.get(i).getEmail()).toList());
+                // Çakışma email'den değilse veya denemeler bittiyse hata olduğu gibi yükselir
+                if (registered.isEmpty() || attempt == MAX_SAVE_ATTEMPTS) {
+                    throw e;
+                }
+                rows = rows.stream().filter(i -> {
+                    String email = candidates.get(i).getEmail();
+                    if (registered.contains(email)) {
+                        results[i] = failure(i + 1, email, Status.DUPLICATE, "Email Id already registered!");
+                        return false;
+                    }
+                    return true;
+                }).toList();
+            }
+        }
+
+        for (int k = 0; k < saved.size(); k++) {
+            int i = rows.get(k);
+            User user = saved.get(k);
+            results[i] = new UserImportResult(i + 1, user.getEmail(), Status.CREATED, user.getId(), null);
+            // İçeri aktarmadan önce başlamış cache yüklemeleri eski (boş) sonucu yazmasın
+            userCache.evict(user.getId(), user.getEmail());
+        }
+
+        UserImportResponse response = new UserImportResponse();
+        response.setRows(List.of(results));
+        response.setCreated(saved.size());
+        response.setFailed(results.length - saved.size());
+        return response;
+    }
+
+    /**
+     * CSV içeri aktarır. İlk satır başlıktır: fullName,email,password,phone,role,storeId (sıra serbest,
+     * phone ve storeId isteğe bağlı).
+     * Alanlarda virgül veya tırnak desteklenmez.
+     */
+    @Override
+    public UserImportResponse importCsv(String csv) throws UserException {
+        if (csv == null || csv.isBlank()) {
+            throw new UserException("No users to import");
+        }
+        List<String> lines = csv.lines().filter(line -> !line.isBlank()).toList();
+
+        String[] header = lines.get(0).split(",", -1);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            columns.put(header[i].trim(), i);
+        }
+        for (String column : List.of("fullName", "email", "password", "role")) {
+            if (!columns.containsKey(column)) {
+                throw new UserException("CSV header must contain " + String.join(",", CSV_COLUMNS));
+            }
+        }
+
+        List<UserDto> users = new ArrayList<>(lines.size() - 1);
+        int row = 0;
+        for (String line : lines.subList(1, lines.size())) {
+            row++;
+            String[] values = line.split(",", -1);
+            UserDto user = new UserDto();
+            user.setFullName(column(values, columns, "fullName"));
+            user.setEmail(column(values, columns, "email"));
+            user.setPassword(column(values, columns, "password"));
+            user.setPhone(column(values, columns, "phone"));
+            user.setRole(parseRole(column(values, columns, "role")));
+            user.setStoreId(parseStoreId(column(values, columns, "storeId"), row));
+            users.add(user);
+        }
+        return importUsers(users);
+    }
+
+    /**
+     * Her denemede yeni entity'ler oluşturulur; geri alınan denemede atanmış id'ler taşınmaz.
+     */
+    private static List<User> newUsers(List<Integer> rows, Map<Integer, UserDto> candidates,
+                                       Map<Integer, String> hashByRow, LocalDateTime now) {
+        List<User> newUsers = new ArrayList<>(rows.size());
+        for (int i : rows) {
+            UserDto dto = candidates.get(i);
+            User user = new User();
+            user.setEmail(dto.getEmail());
+            user.setPassword(hashByRow.get(i));
+            user.setRole(dto.getRole());
+            user.setStoreId(dto.getStoreId());
+            user.setFullName(dto.getFullName());
+            user.setPhone(dto.getPhone());
+            user.setCreatedAt(now);
+            newUsers.add(user);
+        }
+        return newUsers;
+    }
+
+    private Set<String> findExistingEmails(List<String> emails) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += EXISTING_EMAIL_CHUNK) {
+            existing.addAll(userRepository.findExistingEmails(
+                    emails.subList(from, Math.min(from + EXISTING_EMAIL_CHUNK, emails.size()))));
+        }
+        return existing;
+    }
+
+    /**
+     * Signup ile aynı kurallar; hata yoksa null döner.
+     */
+    private static String validate(UserDto user) {
+        if (user.getEmail() == null || !user.getEmail().contains("@")) {
+            return "Email should be valid";
+        }
+        if (user.getPassword() == null || user.getPassword().isBlank()) {
+            return "Password is required";
+        }
+        if (user.getFullName() == null || user.getFullName().isBlank()) {
+            return "Full name is required";
+        }
+        if (user.getRole() == null) {
+            return "Role is required";
+        }
+        if (user.getRole() == UserRole.ROLE_ADMIN || user.getRole() == UserRole.ROLE_SUPER_ADMIN) {
+            return "Role Admin is not allowed!";
+        }
+        return null;
+    }
+
+    private static UserImportResult failure(int row, String email, Status status, String message) {
+        return new UserImportResult(row, email, status, null, message);
+    }
+
+    private static String column(String[] values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.length) {
+            return null;
+        }
+        String value = values[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long parseStoreId(String value, int row) throws UserException {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            // Geçersiz mağaza ile kullanıcıyı zincir geneline açmak yerine import reddedilir
+            throw new UserException("Invalid storeId on row " + row + ": " + value);
+        }
+    }
+
+    private static UserRole parseRole(String value) {
+        if (value == null) {
+            return null;
+        }
+        String name = value.toUpperCase(Locale.ROOT);
+        try {
+            return UserRole.valueOf(name.startsWith("ROLE_") ? name : "ROLE_" + name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -2,41 +2,41 @@ package com.akcadag.service.impl;
 
 import com.akcadag.configuration.JwtProvider;
 import com.akcadag.exceptions.UserException;
-import com.akcadag.models.User;
 import com.akcadag.repository.UserRepository;
+import com.akcadag.repository.projection.UserProfile;
 import com.akcadag.service.interfaces.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final UserCache userCache;
 
     /**
      * JWT token'dan kullanıcıyı bulur.
      */
     @Override
-    public User getUserFromJwtToken(String token) throws UserException {
+    public UserProfile getUserFromJwtToken(String token) throws UserException {
         String email = jwtProvider.getEmailFromToken(token);
-        User user=userRepository.findByEmail(email);
-        if(user==null){
-            throw new UserException("Invalid Token!");
-        }
-        return user;
+        return userCache.getProfileByEmail(email, userRepository::findProfileByEmail)
+                .orElseThrow(() -> new UserException("Invalid Token!"));
     }
 
     /**
      * Şu anda giriş yapmış kullanıcıyı döndürür.
      */
     @Override
-    public User getCurrentUser() throws UserException {
+    public UserProfile getCurrentUser() throws UserException {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -44,23 +44,24 @@ public class UserServiceImpl implements UserService {
         }
 
         String email = authentication.getName();
-        return userRepository.findByEmail(email);
+        return userCache.getProfileByEmail(email, userRepository::findProfileByEmail)
+                .orElseThrow(() -> new UserException("User not found with email: " + email));
     }
 
     /**
      * Email ile kullanıcıyı bulur.
      */
     @Override
-    public User getUserByEmail(String email) {
-        return userRepository.findByEmail(email);
+    public UserProfile getUserByEmail(String email) {
+        return userCache.getProfileByEmail(email, userRepository::findProfileByEmail).orElse(null);
     }
 
     /**
      * ID ile kullanıcıyı bulur.
      */
     @Override
-    public User getUserById(Long id) throws UserException {
-        return userRepository.findById(id)
+    public UserProfile getUserById(Long id) throws UserException {
+        return userCache.getProfileById(id, userRepository::findProfileById)
                 .orElseThrow(() -> new UserException("User not found with id: " + id));
     }
 
@@ -68,7 +69,7 @@ public class UserServiceImpl implements UserService {
      * Tüm kullanıcıları döndürür.
      */
     @Override
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public List<UserProfile> getAllUsers() {
+        return userRepository.findAllProfiles();
     }
 }
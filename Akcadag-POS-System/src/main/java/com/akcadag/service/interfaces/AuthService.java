@@ -1,14 +1,23 @@
 package com.akcadag.service.interfaces;
 
+import com.akcadag.domain.UserRole;
 import com.akcadag.exceptions.UserException;
 import com.akcadag.payload.dto.UserDto;
 import com.akcadag.payload.response.AuthResponse;
+import com.akcadag.payload.response.UserPageResponse;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
 public interface AuthService {
     AuthResponse signUp(UserDto userDto) throws UserException;
     AuthResponse logIn(UserDto userDto) throws UserException;
 
-    List<UserDto> getAllUsers();
+    UserPageResponse getUsers(Long after, int size, UserRole role, Long storeId);
+
+    void writeUserPage(UserPageResponse page, OutputStream outputStream) throws IOException;
+
+    void writeUsers(UserRole role, Long storeId, OutputStream outputStream) throws IOException;
+
+    void streamUsers(UserRole role, Long storeId, OutputStream outputStream) throws IOException;
 }
@@ -0,0 +1,11 @@
+package com.akcadag.service.interfaces;
+
+import com.akcadag.exceptions.UserException;
+import com.akcadag.payload.response.AuthResponse;
+
+public interface TokenService {
+    String createRefreshToken(Long userId);
+    AuthResponse refresh(String refreshToken) throws UserException;
+    void logout(String jwt, String refreshToken);
+    void revokeUserSessions(Long userId) throws UserException;
+}
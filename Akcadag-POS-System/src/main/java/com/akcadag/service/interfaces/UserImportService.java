@@ -0,0 +1,12 @@
+package com.akcadag.service.interfaces;
+
+import com.akcadag.exceptions.UserException;
+import com.akcadag.payload.dto.UserDto;
+import com.akcadag.payload.response.UserImportResponse;
+
+import java.util.List;
+
+public interface UserImportService {
+    UserImportResponse importUsers(List<UserDto> users) throws UserException;
+    UserImportResponse importCsv(String csv) throws UserException;
+}
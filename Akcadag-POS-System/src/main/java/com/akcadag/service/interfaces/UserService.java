@@ -1,14 +1,14 @@
 package com.akcadag.service.interfaces;
 
 import com.akcadag.exceptions.UserException;
-import com.akcadag.models.User;
+import com.akcadag.repository.projection.UserProfile;
 
 import java.util.List;
 
 public interface UserService {
-    User getUserFromJwtToken(String token) throws UserException;
-    User getCurrentUser() throws UserException;
-    User getUserByEmail(String email);
-    User getUserById(Long email) throws UserException;
-    List<User> getAllUsers();
+    UserProfile getUserFromJwtToken(String token) throws UserException;
+    UserProfile getCurrentUser() throws UserException;
+    UserProfile getUserByEmail(String email);
+    UserProfile getUserById(Long email) throws UserException;
+    List<UserProfile> getAllUsers();
 }
@@ -0,0 +1,75 @@
+package com.akcadag.sqlstats;
+
+import java.util.regex.Pattern;
+
+/**
+ *  SqlShapes
+ * SQL cümlesini "şekline" indirger: string ve sayı literal'leri ?, boşluklar tek boşluk,
+ * IN (?, ?, ?) listeleri IN (?...) olur. Böylece aynı sorgunun farklı parametreli halleri
+ * tek bir istatistik satırında toplanır ve log'a parametre değerleri (ör. şifre hash'i) yazılmaz.
+ */
+public final class SqlShapes {
+
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private SqlShapes() {
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "<unknown>";
+        }
+        StringBuilder shape = new StringBuilder(sql.length());
+        int length = sql.length();
+        boolean pendingSpace = false;
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !shape.isEmpty();
+                continue;
+            }
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                // Yorumlar atlanır (/* ... */)
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 1;
+                pendingSpace = !shape.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                shape.append(' ');
+                pendingSpace = false;
+            }
+            if (c == '\'') {
+                // 'it''s' gibi kaçışlı tırnaklar dahil string literal
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                shape.append('?');
+            } else if (Character.isDigit(c) && !partOfIdentifier(shape)) {
+                while (i + 1 < length && (Character.isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.')) {
+                    i++;
+                }
+                shape.append('?');
+            } else {
+                shape.append(c);
+            }
+        }
+        return IN_LIST.matcher(shape).replaceAll("in (?...)");
+    }
+
+    private static boolean partOfIdentifier(StringBuilder shape) {
+        if (shape.isEmpty()) {
+            return false;
+        }
+        char previous = shape.charAt(shape.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '"' || previous == '$';
+    }
+}
@@ -0,0 +1,167 @@
+package com.akcadag.sqlstats;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  SqlStatementStats
+ * JDBC seviyesinde çalışan her SQL cümlesinin süresini sorgu şekline (SqlShapes) göre toplar.
+ * show-sql / TRACE binder log'u yerine:
+ * - eşik süresini (sql.stats.slow-threshold) aşan cümleler WARN ile,
+ * - sql.stats.sample-rate oranında örneklenen cümleler INFO ile log'lanır.
+ * Log'a sadece sorgu şekli yazılır, parametre değerleri yazılmaz.
+ * Sayaçlar LongAdder'dır; istek thread'inde kilit ve string formatlama yapılmaz (log'lanan cümleler hariç).
+ * En yavaş ve en sık çalışan cümleler /actuator/sqlstats üzerinden okunur.
+ */
+@Slf4j
+@Component
+public class SqlStatementStats {
+
+    /**
+     * Bir sorgu şekli için toplanmış değerler.
+     */
+    public record Summary(String sql, long count, long errors, double meanMs, double maxMs, double totalMs) {
+    }
+
+    // Şekil sayısı sınırı aşılınca yeni şekiller bu satırda toplanır
+    static final String OTHER = "<other>";
+
+    private static final String[] TYPES = {"select", "insert", "update", "delete", "other"};
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final int maxShapes;
+
+    private final ConcurrentHashMap<String, ShapeStats> byShape = new ConcurrentHashMap<>();
+    // Hibernate aynı SQL string'lerini tekrar kullanır, normalize işlemi bir kez yapılır
+    private final Cache<String, String> shapes;
+    private final Timer[] timers = new Timer[TYPES.length];
+
+    public SqlStatementStats(@Value("${sql.stats.slow-threshold:200ms}") Duration slowThreshold,
+                             @Value("${sql.stats.sample-rate:0}") double sampleRate,
+                             @Value("${sql.stats.max-shapes:500}") int maxShapes,
+                             MeterRegistry meterRegistry) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.maxShapes = maxShapes;
+        this.shapes = Caffeine.newBuilder().maximumSize(maxShapes * 4L).build();
+        for (int i = 0; i < TYPES.length; i++) {
+            timers[i] = Timer.builder("sql.statements")
+                    .description("JDBC seviyesinde SQL cümlesi çalışma süresi")
+                    .tag("type", TYPES[i])
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Çalışan bir cümlenin süresini kaydeder.
+     * @param sql    JDBC'ye verilen SQL (parametreli)
+     * @param nanos  execute* çağrısının süresi
+     * @param failed cümle SQLException ile bittiyse true
+     */
+    public void record(String sql, long nanos, boolean failed) {
+        String shape = sql == null ? SqlShapes.normalize(null) : shapes.get(sql, SqlShapes::normalize);
+        statsOf(shape).add(nanos, failed);
+        timers[typeIndex(shape)].record(nanos, TimeUnit.NANOSECONDS);
+
+        if (nanos >= slowThresholdNanos) {
+            log.warn("Slow SQL ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(nanos), shape);
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("Sampled SQL ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(nanos), shape);
+        }
+    }
+
+    /**
+     * Ortalama süreye göre en yavaş cümleler.
+     */
+    public List<Summary> slowest(int limit) {
+        return top(Comparator.comparingDouble(Summary::meanMs), limit);
+    }
+
+    /**
+     * Çalışma sayısına göre en sık cümleler.
+     */
+    public List<Summary> mostFrequent(int limit) {
+        return top(Comparator.comparingLong(Summary::count), limit);
+    }
+
+    public int shapeCount() {
+        return byShape.size();
+    }
+
+    public void reset() {
+        byShape.clear();
+    }
+
+    private List<Summary> top(Comparator<Summary> order, int limit) {
+        return byShape.entrySet().stream()
+                .map(entry -> entry.getValue().summary(entry.getKey()))
+                .filter(summary -> summary.count() > 0)
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private ShapeStats statsOf(String shape) {
+        ShapeStats stats = byShape.get(shape);
+        if (stats != null) {
+            return stats;
+        }
+        if (byShape.size() >= maxShapes) {
+            return byShape.computeIfAbsent(OTHER, key -> new ShapeStats());
+        }
+        return byShape.computeIfAbsent(shape, key -> new ShapeStats());
+    }
+
+    private static int typeIndex(String shape) {
+        int end = Math.min(shape.length(), 6);
+        String verb = shape.substring(0, end).toLowerCase(Locale.ROOT);
+        for (int i = 0; i < TYPES.length - 1; i++) {
+            if (verb.equals(TYPES[i])) {
+                return i;
+            }
+        }
+        // "with ... select" gibi cümleler "other" sayılır
+        return TYPES.length - 1;
+    }
+
+    private static final class ShapeStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void add(long nanos, boolean failed) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        Summary summary(String sql) {
+            long executions = count.sum();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            return new Summary(sql, executions, errors.sum(),
+                    executions == 0 ? 0 : totalMs / executions,
+                    maxNanos.get() / 1_000_000.0,
+                    totalMs);
+        }
+    }
+}
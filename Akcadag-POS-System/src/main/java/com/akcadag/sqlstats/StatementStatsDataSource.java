@@ -0,0 +1,141 @@
+package com.akcadag.sqlstats;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ *  StatementStatsDataSource
+ * Asıl DataSource'u (Hikari) sarar; verdiği Connection ve Statement'lar üzerinden çalışan
+ * execute* çağrılarının süresini SqlStatementStats'a yazar. Hibernate, JdbcTemplate ve
+ * Spring Data sorgularının hepsi aynı DataSource'tan geçtiği için tek noktada ölçülür.
+ * Süre execute* çağrısını kapsar; ResultSet'in sonradan okunması dahil değildir.
+ */
+public class StatementStatsDataSource extends DelegatingDataSource {
+
+    private final SqlStatementStats stats;
+
+    public StatementStatsDataSource(DataSource target, SqlStatementStats stats) {
+        super(target);
+        this.stats = stats;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementStatsDataSource.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, new ConnectionHandler(connection));
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Statistics proxy for " + target;
+                case "getTargetConnection":
+                    return target;
+                default:
+                    break;
+            }
+
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrap(statement, sql, (Connection) proxy);
+            }
+            return result;
+        }
+    }
+
+    private Statement wrap(Statement statement, String sql, Connection connection) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Statement) Proxy.newProxyInstance(StatementStatsDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, new StatementHandler(statement, sql, connection));
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private String sql;
+
+        StatementHandler(Statement target, String sql, Connection connection) {
+            this.target = target;
+            this.sql = sql;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return connection;
+                default:
+                    break;
+            }
+            if (!name.startsWith("execute")) {
+                if (name.equals("addBatch") && args != null && args.length == 1) {
+                    // Statement.addBatch(sql): batch'te son eklenen cümle kaydedilir
+                    sql = (String) args[0];
+                }
+                return invokeTarget(target, method, args);
+            }
+
+            String executed = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = invokeTarget(target, method, args);
+                failed = false;
+                return result;
+            } finally {
+                stats.record(executed, System.nanoTime() - start, failed);
+            }
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
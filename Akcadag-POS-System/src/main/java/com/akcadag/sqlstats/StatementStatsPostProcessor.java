@@ -0,0 +1,35 @@
+package com.akcadag.sqlstats;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ *  StatementStatsPostProcessor
+ * Uygulamadaki DataSource bean'ini StatementStatsDataSource ile sarar.
+ * sql.stats.enabled=false ise DataSource olduğu gibi bırakılır.
+ */
+@Component
+public class StatementStatsPostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+    // BeanPostProcessor erken oluşturulur, istatistik bean'i DataSource sarılırken alınır
+    private final ObjectProvider<SqlStatementStats> stats;
+
+    public StatementStatsPostProcessor(@Value("${sql.stats.enabled:true}") boolean enabled,
+                                       ObjectProvider<SqlStatementStats> stats) {
+        this.enabled = enabled;
+        this.stats = stats;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof StatementStatsDataSource)) {
+            return new StatementStatsDataSource(dataSource, stats.getObject());
+        }
+        return bean;
+    }
+}
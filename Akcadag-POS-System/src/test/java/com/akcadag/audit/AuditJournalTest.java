@@ -0,0 +1,78 @@
+package com.akcadag.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void concurrentRecordsAreWrittenAcrossSegmentsAndQueryable() throws Exception {
+        // 64 kayıtlık segmentler: 8 x 100 kayıt ile birkaç kez rotation olur
+        AuditJournal journal = journal(64, 100);
+        Instant start = Instant.now();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                int producer = thread;
+                executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        journal.record(AuditEventType.LOGIN_FAILURE, AuditReason.BAD_CREDENTIALS,
+                                "user" + producer + "@akcadag.com", "10.0.0." + producer);
+                    }
+                });
+            }
+        }
+        journal.record(AuditEventType.LOGIN_SUCCESS, AuditReason.NONE, "user1@akcadag.com", "10.0.0.1");
+        journal.destroy();
+
+        AuditJournalReader reader = new AuditJournalReader(directory);
+        assertThat(AuditJournalReader.segmentFiles(directory)).hasSizeGreaterThan(1);
+        assertThat(reader.count(AuditEventType.LOGIN_FAILURE, null, start, null)).isEqualTo(800);
+        assertThat(reader.count(AuditEventType.LOGIN_FAILURE, "user3@akcadag.com", start, null)).isEqualTo(100);
+
+        List<AuditRecord> latest = reader.query(new AuditQuery(null, "user1@akcadag.com", start, null, 5));
+        assertThat(latest).hasSize(5);
+        assertThat(latest.get(0).type()).isEqualTo(AuditEventType.LOGIN_SUCCESS);
+        assertThat(latest.get(0).clientIp()).isEqualTo("10.0.0.1");
+
+        // Aralık dışındaki kayıtlar sayılmaz
+        assertThat(reader.count(null, null, Instant.now().plusSeconds(60), null)).isZero();
+    }
+
+    @Test
+    void reopeningContinuesTheLastSegment() throws Exception {
+        AuditJournal first = journal(1024, 10);
+        first.record(AuditEventType.SIGNUP, AuditReason.NONE, "new@akcadag.com", null);
+        first.destroy();
+
+        AuditJournal second = journal(1024, 10);
+        second.record(AuditEventType.LOGIN_SUCCESS, AuditReason.NONE, "new@akcadag.com", null);
+        second.destroy();
+
+        assertThat(AuditJournalReader.segmentFiles(directory)).hasSize(1);
+        assertThat(second.query(new AuditQuery(null, "new@akcadag.com", null, null, 10)))
+                .extracting(AuditRecord::type)
+                .containsExactly(AuditEventType.LOGIN_SUCCESS, AuditEventType.SIGNUP);
+    }
+
+    private AuditJournal journal(int recordsPerSegment, int maxSegments) throws Exception {
+        DataSize segmentSize = DataSize.ofBytes(AuditSegment.HEADER_SIZE
+                + (long) recordsPerSegment * AuditRecordFormat.RECORD_SIZE);
+        return new AuditJournal(true, directory, segmentSize, maxSegments, 1024,
+                AuditJournal.FlushPolicy.BATCH, Duration.ofSeconds(1), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,21 @@
+package com.akcadag.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcceptEncodingTest {
+
+    @Test
+    void acceptsGzipUnlessQualityIsZero() {
+        assertThat(AcceptEncoding.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("*")).isTrue();
+
+        assertThat(AcceptEncoding.acceptsGzip(null)).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("identity")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzip; q=0.000, *")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("*;q=0")).isFalse();
+    }
+}
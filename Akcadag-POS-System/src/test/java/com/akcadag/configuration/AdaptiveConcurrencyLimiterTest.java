@@ -0,0 +1,110 @@
+package com.akcadag.configuration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void limitGrowsWhileLatencyIsStableAndShrinksWhenItRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 4, 200, 2.0, 0.2);
+
+        for (int i = 0; i < 200; i++) {
+            runBatch(limiter, 10 * MS);
+        }
+        int grown = limiter.getLimit();
+        assertThat(grown).isGreaterThan(10);
+
+        // Veritabanı yavaşladı: gecikme 10 kat arttı, limit birkaç tur içinde düşer
+        for (int i = 0; i < 3; i++) {
+            runBatch(limiter, 100 * MS);
+        }
+        assertThat(limiter.getLimit()).isLessThan(grown / 2).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void overloadResponsesBackOffImmediately() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 4, 200, 2.0, 0.2);
+        for (int i = 0; i < 50; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(5 * MS, true);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void filterShedsRequestsOverTheLimitWithRetryAfter() throws Exception {
+        ConcurrencyLimits limits = new ConcurrencyLimits(true, Duration.ofSeconds(2), 2.0, 0.2,
+                1, 1, 1, 1, 1, 1, new SimpleMeterRegistry());
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limits);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            // İlk login isteği limitteki tek yeri tutar
+            Future<MockHttpServletResponse> slow = executor.submit(() -> {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                filter.doFilter(new MockHttpServletRequest("POST", "/auth/login"), response,
+                        (request, res) -> {
+                            entered.countDown();
+                            await(finish);
+                        });
+                return response;
+            });
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            MockHttpServletResponse shed = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("POST", "/auth/login"), shed, new MockFilterChain());
+            assertThat(shed.getStatus()).isEqualTo(503);
+            assertThat(shed.getHeader("Retry-After")).isEqualTo("2");
+
+            // api grubu ve sınırlanmayan yollar etkilenmez
+            MockHttpServletResponse profile = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/users/profile"), profile, new MockFilterChain());
+            assertThat(profile.getStatus()).isEqualTo(200);
+            MockHttpServletResponse health = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), health, new MockFilterChain());
+            assertThat(health.getStatus()).isEqualTo(200);
+
+            finish.countDown();
+            assertThat(slow.get().getStatus()).isEqualTo(200);
+        }
+        assertThat(limits.partitionFor("/auth/login").shed().count()).isEqualTo(1.0);
+        assertThat(limits.partitionFor("/auth/login").limiter().getInflight()).isZero();
+    }
+
+    /**
+     * Limitin tamamı kadar eşzamanlı isteği aynı gecikmeyle tamamlar.
+     */
+    private static void runBatch(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos, false);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.akcadag.configuration;
+
+import com.akcadag.domain.UserRole;
+import com.akcadag.payload.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper jackson = mapper(false);
+    private final ObjectMapper fast = mapper(true);
+
+    @Test
+    void writesTheSameStringAsIsoLocalDateTime() throws Exception {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 10_000; i++) {
+            int nano = switch (i % 4) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1_000) * 1_000_000;
+                case 2 -> random.nextInt(1_000_000) * 1_000;
+                default -> random.nextInt(1_000_000_000);
+            };
+            LocalDateTime value = LocalDateTime.of(random.nextInt(1, 10_000), random.nextInt(1, 13),
+                    random.nextInt(1, 29), random.nextInt(24), random.nextInt(60), random.nextInt(60), nano);
+
+            assertThat(fast.writeValueAsString(value))
+                    .isEqualTo('"' + value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + '"');
+        }
+        LocalDateTime farFuture = LocalDateTime.of(12_345, 1, 1, 0, 0);
+        assertThat(fast.writeValueAsString(farFuture)).isEqualTo(jackson.writeValueAsString(farFuture));
+    }
+
+    @Test
+    void fastCodecProducesTheSameUserJson() throws Exception {
+        UserDto user = new UserDto();
+        user.setId(7L);
+        user.setFullName("Müdür Şube");
+        user.setEmail("mudur@akcadag.com");
+        user.setPassword("secret");
+        user.setRole(UserRole.ROLE_STORE_ADMIN);
+        user.setCreatedAt(LocalDateTime.of(2026, 10, 18, 4, 23, 6, 735_911_466));
+        user.setLastLoginAt(LocalDateTime.of(2026, 10, 18, 4, 23));
+
+        String json = fast.writeValueAsString(user);
+        assertThat(json).isEqualTo(jackson.writeValueAsString(user));
+        // Boş alanlar da yazılır; istemciler her cevapta aynı alan setini görür
+        assertThat(json).doesNotContain("password").contains("\"updatedAt\":null");
+    }
+
+    private static ObjectMapper mapper(boolean fastCodec) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (fastCodec) {
+            JsonConfig config = new JsonConfig();
+            builder.modulesToInstall(config.blackbirdModule(), config.isoLocalDateTimeModule());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.akcadag.configuration;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String LEGACY_SECRET = "test-only-legacy-secret-0123456789abcdef";
+
+    @Test
+    void legacyHmacTokensAreAcceptedOnlyUntilTheCutoff() {
+        String legacy = Jwts.builder()
+                .subject("admin@akcadag.com")
+                .claim("authorities", "ROLE_ADMIN")
+                .expiration(Date.from(Instant.now().plusSeconds(600)))
+                .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+
+        JwtProvider open = provider(new LegacyHmac(true, LEGACY_SECRET, Instant.now().plusSeconds(60)));
+        assertThat(open.getEmail(open.parseClaims(legacy))).isEqualTo("admin@akcadag.com");
+
+        JwtProvider expired = provider(new LegacyHmac(true, LEGACY_SECRET, Instant.now().minusSeconds(1)));
+        assertThatThrownBy(() -> expired.parseClaims(legacy)).isInstanceOf(RuntimeException.class);
+
+        JwtProvider disabled = provider(LegacyHmac.DISABLED);
+        assertThatThrownBy(() -> disabled.parseClaims(legacy)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void keysSurviveRestartsAndAreSharedThroughTheStore() {
+        JwtKeyStore store = JwtKeyStore.inMemory();
+        JwtProvider first = provider(keyRing(store, "ES256", 0L));
+        String token = first.generateToken(authentication("cashier@akcadag.com"));
+
+        // Yeniden başlayan veya başka bir node aynı anahtarla imzalar ve eski token'ı doğrular
+        JwtKeyRing restarted = keyRing(store, "ES256", 0L);
+        assertThat(provider(restarted).getEmail(provider(restarted).parseClaims(token))).isEqualTo("cashier@akcadag.com");
+        assertThat(restarted.currentKey().kid()).isEqualTo(header(token));
+
+        JwtKeyRing eddsa = keyRing(JwtKeyStore.inMemory(), "EdDSA", 0L);
+        String signed = provider(eddsa).generateToken(authentication("cashier@akcadag.com"));
+        assertThat(provider(eddsa).getEmail(provider(eddsa).parseClaims(signed))).isEqualTo("cashier@akcadag.com");
+    }
+
+    @Test
+    void newKeysArePublishedBeforeTheyAreUsedForSigning() {
+        JwtKeyStore store = JwtKeyStore.inMemory();
+        JwtKeyRing node = keyRing(store, "ES256", 60_000L);
+        JwtKeyRing otherNode = keyRing(store, "ES256", 60_000L);
+        String before = node.currentKey().kid();
+
+        otherNode.rotate();
+        node.sync();
+
+        // Yeni anahtar JWKS'te ve doğrulamada var, ama activation-delay dolana kadar imzalamada yok
+        assertThat(otherNode.currentKey().kid()).isEqualTo(before);
+        assertThat(node.currentKey().kid()).isEqualTo(before);
+        assertThat(node.jwksJson()).isEqualTo(otherNode.jwksJson()).contains(before);
+        assertThat(node.jwksJson().split("\"kid\"")).hasSize(3);
+    }
+
+    @Test
+    void legacyHmacRequiresAConfiguredSecret() {
+        assertThatThrownBy(() -> new LegacyHmac(true, "", "", Duration.ofHours(24)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new LegacyHmac(false, "", "", Duration.ofHours(24)).enabled()).isFalse();
+    }
+
+    @Test
+    void legacyCutoffDefaultsToTheLegacyTokenLifetime() {
+        // Deploy'dan hemen önce üretilmiş 24 saatlik eski token, ömrü boyunca geçerli kalır
+        LegacyHmac legacy = new LegacyHmac(true, LEGACY_SECRET, "", Duration.ofHours(24));
+        assertThat(legacy.cutoff()).isAfter(Instant.now().plus(Duration.ofHours(23)));
+        assertThat(new LegacyHmac(true, LEGACY_SECRET, "2030-01-01T00:00:00Z", Duration.ofHours(24)).cutoff())
+                .isEqualTo(Instant.parse("2030-01-01T00:00:00Z"));
+    }
+
+    private static JwtProvider provider(LegacyHmac legacyHmac) {
+        return provider(new JwtKeyRing("ES256", 86_400_000L, 86_400_000L, 0L, JwtKeyStore.inMemory(),
+                legacyHmac, List.of(), Duration.ofSeconds(2)));
+    }
+
+    private static JwtProvider provider(JwtKeyRing keyRing) {
+        return new JwtProvider(keyRing, Duration.ofMinutes(15), true, new AuthMetrics(new SimpleMeterRegistry()));
+    }
+
+    private static JwtKeyRing keyRing(JwtKeyStore store, String algorithm, long activationDelayMillis) {
+        return new JwtKeyRing(algorithm, 86_400_000L, 86_400_000L, activationDelayMillis, store,
+                LegacyHmac.DISABLED, List.of(), Duration.ofSeconds(2));
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(String email) {
+        return new UsernamePasswordAuthenticationToken(email, null,
+                AuthorityUtils.createAuthorityList("ROLE_CASHIER"));
+    }
+
+    private static String header(String token) {
+        String json = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+        return json.replaceAll(".*\"kid\":\"([^\"]+)\".*", "$1");
+    }
+}
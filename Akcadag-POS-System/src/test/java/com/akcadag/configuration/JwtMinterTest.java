@@ -0,0 +1,155 @@
+package com.akcadag.configuration;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtMinterTest {
+
+    private static final long NOW = 1_792_297_386_789L;
+    private static final long EXPIRATION = NOW + Duration.ofMinutes(15).toMillis();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"cashier@akcadag.com", "müdür.şube@akçadağ.com.tr", "a", "x+tag@akcadag.co"})
+    void es256HeaderAndPayloadMatchJjwtAndSignatureVerifies(String subject) {
+        JwtKeyRing keyRing = keyRing("ES256");
+        JwtProvider provider = provider(keyRing, false);
+        JwtMinter minter = new JwtMinter(keyRing.algorithm());
+        UUID jti = UUID.randomUUID();
+
+        String minted = minter.mint(keyRing.currentKey(), jti, NOW, EXPIRATION, subject, 5, null);
+        String reference = jjwt(keyRing, jti, subject, 5, null);
+
+        // ECDSA imzası rastgele olduğu için sadece imzasız kısım karşılaştırılır
+        assertThat(signingInput(minted)).isEqualTo(signingInput(reference));
+        assertThat(minted.substring(minted.lastIndexOf('.') + 1)).hasSize(86); // 64 byte r||s
+
+        Claims claims = provider.parseClaims(mintedValid(minter, keyRing, jti, subject));
+        assertThat(claims.getSubject()).isEqualTo(subject);
+        assertThat(claims.getId()).isEqualTo(jti.toString());
+        assertThat(provider.getRoleMask(claims)).isEqualTo(5);
+    }
+
+    @Test
+    void eddsaTokensAreIdenticalToJjwt() {
+        // Ed25519 imzası deterministiktir, token'ın tamamı aynı olmalı
+        JwtKeyRing keyRing = keyRing("EdDSA");
+        JwtMinter minter = new JwtMinter(keyRing.algorithm());
+        UUID jti = UUID.randomUUID();
+
+        assertThat(minter.mint(keyRing.currentKey(), jti, NOW, EXPIRATION, "cashier@akcadag.com", 4, null))
+                .isEqualTo(jjwt(keyRing, jti, "cashier@akcadag.com", 4, null));
+        assertThat(minter.mint(keyRing.currentKey(), jti, NOW, EXPIRATION, "cashier@akcadag.com", 4, 17L))
+                .isEqualTo(jjwt(keyRing, jti, "cashier@akcadag.com", 4, 17L));
+    }
+
+    @Test
+    void storeClaimRoundTripsOnBothPaths() {
+        JwtKeyRing keyRing = keyRing("ES256");
+        for (boolean fastPath : new boolean[]{true, false}) {
+            JwtProvider provider = provider(keyRing, fastPath);
+            Claims scoped = provider.parseClaims(provider.generateToken(authentication("kasa@akcadag.com"), 42L));
+            Claims chainWide = provider.parseClaims(provider.generateToken(authentication("hq@akcadag.com")));
+            assertThat(provider.getStoreId(scoped)).isEqualTo(42L);
+            assertThat(chainWide.containsKey(JwtProvider.CLAIM_STORE)).isFalse();
+            assertThat(provider.getStoreId(chainWide)).isNull();
+        }
+    }
+
+    @Test
+    void providerTokensParseAfterRotationAndFallBackForEscapedSubjects() {
+        JwtKeyRing keyRing = keyRing("ES256");
+        JwtProvider provider = provider(keyRing, true);
+
+        String first = provider.generateToken(authentication("cashier@akcadag.com"));
+        keyRing.rotate();
+        String second = provider.generateToken(authentication("cashier@akcadag.com"));
+        assertThat(header(first)).isNotEqualTo(header(second));
+        assertThat(provider.getEmail(provider.parseClaims(first))).isEqualTo("cashier@akcadag.com");
+        assertThat(provider.getEmail(provider.parseClaims(second))).isEqualTo("cashier@akcadag.com");
+
+        // Kaçış gerektiren subject jjwt ile üretilir
+        String quoted = "\"odd\\name\"@akcadag.com";
+        assertThat(JwtMinter.canEncode(quoted)).isFalse();
+        assertThat(provider.getEmail(provider.parseClaims(provider.generateToken(authentication(quoted)))))
+                .isEqualTo(quoted);
+    }
+
+    @Test
+    void concurrentMintingProducesValidUniqueTokens() throws Exception {
+        JwtKeyRing keyRing = keyRing("ES256");
+        JwtProvider provider = provider(keyRing, true);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int thread = 0; thread < 4; thread++) {
+                int user = thread;
+                executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        String email = "user" + user + "-" + i + "@akcadag.com";
+                        Claims claims = provider.parseClaims(provider.generateToken(authentication(email)));
+                        assertThat(claims.getSubject()).isEqualTo(email);
+                        ids.add(claims.getId());
+                    }
+                    return null;
+                }).get();
+            }
+        }
+        assertThat(ids).hasSize(800);
+    }
+
+    private static String mintedValid(JwtMinter minter, JwtKeyRing keyRing, UUID jti, String subject) {
+        long now = System.currentTimeMillis();
+        return minter.mint(keyRing.currentKey(), jti, now, now + 60_000, subject, 5, null);
+    }
+
+    private static String jjwt(JwtKeyRing keyRing, UUID jti, String subject, int roles, Long storeId) {
+        return Jwts.builder()
+                .header().keyId(keyRing.currentKey().kid()).and()
+                .id(jti.toString())
+                .issuedAt(new Date(NOW))
+                .expiration(new Date(EXPIRATION))
+                .subject(subject)
+                .claim(JwtProvider.CLAIM_ROLES, roles)
+                .claim(JwtProvider.CLAIM_STORE, storeId)
+                .signWith(keyRing.currentKey().privateKey(), keyRing.algorithm())
+                .compact();
+    }
+
+    private static JwtKeyRing keyRing(String algorithm) {
+        return new JwtKeyRing(algorithm, 86_400_000L, 86_400_000L, 0L, JwtKeyStore.inMemory(), LegacyHmac.DISABLED, List.of(), Duration.ofSeconds(2));
+    }
+
+    private static JwtProvider provider(JwtKeyRing keyRing, boolean fastPath) {
+        return new JwtProvider(keyRing, Duration.ofMinutes(15), fastPath, new AuthMetrics(new SimpleMeterRegistry()));
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(String email) {
+        return new UsernamePasswordAuthenticationToken(email, null,
+                AuthorityUtils.createAuthorityList("ROLE_CASHIER"));
+    }
+
+    private static String signingInput(String token) {
+        return token.substring(0, token.lastIndexOf('.'));
+    }
+
+    private static String header(String token) {
+        return token.substring(0, token.indexOf('.'));
+    }
+}
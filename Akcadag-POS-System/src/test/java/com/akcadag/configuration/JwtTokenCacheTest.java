@@ -0,0 +1,103 @@
+package com.akcadag.configuration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenCacheTest {
+
+    private static final String LEGACY_SECRET = "test-only-legacy-secret-0123456789abcdef";
+
+    @Test
+    void legacyTokensAreNotServedFromTheCacheAfterTheCutoff() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtKeyRing keyRing = keyRing(JwtKeyStore.inMemory(),
+                new LegacyHmac(true, LEGACY_SECRET, Instant.now().minusSeconds(1)));
+        JwtTokenCache cache = new JwtTokenCache(true, 100, keyRing, registry);
+        AtomicInteger verifications = new AtomicInteger();
+
+        // Token'ın kendi exp'i ileride, ama kid'siz token cutoff geçtiği için tekrar doğrulanmalı
+        cache.get("legacy", counting(verifications, null));
+        cache.get("legacy", counting(verifications, null));
+        assertThat(verifications).hasValue(2);
+
+        cache.get("signed", counting(verifications, "kid-1"));
+        cache.get("signed", counting(verifications, "kid-1"));
+        assertThat(verifications).hasValue(3);
+
+        assertThat(registry.get("auth.jwt.cache").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("auth.jwt.cache").tag("result", "miss").functionCounter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void removingAVerificationKeyDropsCachedTokens() {
+        DroppableKeyStore store = new DroppableKeyStore();
+        JwtKeyRing keyRing = keyRing(store, LegacyHmac.DISABLED);
+        JwtTokenCache cache = new JwtTokenCache(true, 100, keyRing, new SimpleMeterRegistry());
+        AtomicInteger verifications = new AtomicInteger();
+        String kid = keyRing.currentKey().kid();
+
+        cache.get("signed", counting(verifications, kid));
+        keyRing.rotate();
+        assertThat(cache.size()).isEqualTo(1);
+
+        // İlk anahtar store'dan kalkınca (örn. süresi doldu) cache'teki token'ları da düşer
+        store.drop(kid);
+        keyRing.sync();
+        cache.get("signed", counting(verifications, kid));
+        assertThat(verifications).hasValue(2);
+    }
+
+    private static Function<String, JwtTokenCache.VerifiedToken> counting(AtomicInteger verifications, String kid) {
+        return jwt -> {
+            verifications.incrementAndGet();
+            return new JwtTokenCache.VerifiedToken(
+                    new UsernamePasswordAuthenticationToken("cashier@akcadag.com", null, List.of()),
+                    List.of(), kid, jwt, Instant.now(), Instant.now().plusSeconds(600));
+        };
+    }
+
+    private static JwtKeyRing keyRing(JwtKeyStore store, LegacyHmac legacyHmac) {
+        return new JwtKeyRing("ES256", 86_400_000L, 86_400_000L, 0L, store,
+                legacyHmac, List.of(), Duration.ofSeconds(2));
+    }
+
+    /**
+     * Testte anahtarın süresinin dolmasını beklemeden store'dan kaldırabilmek için.
+     */
+    private static final class DroppableKeyStore implements JwtKeyStore {
+
+        private final JwtKeyStore delegate = JwtKeyStore.inMemory();
+        private final List<String> dropped = new ArrayList<>();
+
+        void drop(String kid) {
+            dropped.add(kid);
+        }
+
+        @Override
+        public List<StoredKey> loadActive(String algorithm, Instant now) {
+            return delegate.loadActive(algorithm, now).stream()
+                    .filter(key -> !dropped.contains(key.kid()))
+                    .toList();
+        }
+
+        @Override
+        public void save(StoredKey key) {
+            delegate.save(key);
+        }
+
+        @Override
+        public void deleteExpired(Instant now) {
+            delegate.deleteExpired(now);
+        }
+    }
+}
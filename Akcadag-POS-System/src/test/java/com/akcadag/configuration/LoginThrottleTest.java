@@ -0,0 +1,45 @@
+package com.akcadag.configuration;
+
+import com.akcadag.audit.AuditJournal;
+import com.akcadag.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class LoginThrottleTest {
+
+    private final LoginThrottle throttle = new LoginThrottle(true,
+            2, Duration.ofMinutes(1), 3, Duration.ofMinutes(1), 1000,
+            new SimpleMeterRegistry(), mock(AuditJournal.class));
+
+    @Test
+    void rejectedEmailDoesNotSpendIpTokens() {
+        throttle.check("kasa1@akcadag.com", "10.0.0.5");
+        throttle.check("kasa1@akcadag.com", "10.0.0.5");
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> throttle.check("kasa1@akcadag.com", "10.0.0.5"))
+                    .isInstanceOf(TooManyRequestsException.class);
+        }
+
+        // IP bucket'ında hala bir token var; aynı mağazadaki başka kasa giriş yapabilir
+        assertThatCode(() -> throttle.check("kasa2@akcadag.com", "10.0.0.5")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectedIpDoesNotSpendEmailTokens() {
+        throttle.check("kasa1@akcadag.com", "10.0.0.5");
+        throttle.check("kasa2@akcadag.com", "10.0.0.5");
+        throttle.check("kasa3@akcadag.com", "10.0.0.5");
+        assertThatThrownBy(() -> throttle.check("kasa4@akcadag.com", "10.0.0.5"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // IP reddettiğinde email token'ı geri verildi; kasa4 başka bir adresten iki kez deneyebilir
+        throttle.check("kasa4@akcadag.com", "10.0.0.6");
+        assertThatCode(() -> throttle.check("kasa4@akcadag.com", "10.0.0.6")).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,43 @@
+package com.akcadag.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenIdsTest {
+
+    @Test
+    void issueTimeIsReadFromTheJtiWithMillisecondPrecision() {
+        long now = 1_792_300_000_123L;
+        UUID jti = TokenIds.newId(now);
+
+        assertThat(jti.version()).isEqualTo(7);
+        assertThat(jti.variant()).isEqualTo(2);
+        assertThat(TokenIds.issuedAt(jti.toString(), new Date(now / 1000 * 1000)))
+                .isEqualTo(Instant.ofEpochMilli(now));
+
+        // Eski token'lar (rastgele UUID veya jti'siz) iat'a düşer
+        Date iat = new Date(1_792_300_000_000L);
+        assertThat(TokenIds.issuedAt(UUID.randomUUID().toString(), iat)).isEqualTo(iat.toInstant());
+        assertThat(TokenIds.issuedAt(null, null)).isEqualTo(Instant.EPOCH);
+    }
+
+    @Test
+    void reLoginInTheSameSecondSurvivesUserRevocation() {
+        TokenRevocationIndex index = new TokenRevocationIndex();
+        Instant revokedAt = Instant.parse("2026-10-18T09:00:00.400Z");
+        index.revokeUser("kasa@akcadag.com", revokedAt.plusMillis(1), revokedAt.plus(Duration.ofMinutes(15)));
+
+        String before = TokenIds.newId(revokedAt.toEpochMilli() - 50).toString();
+        String after = TokenIds.newId(revokedAt.toEpochMilli() + 200).toString();
+        Date iat = Date.from(Instant.parse("2026-10-18T09:00:00Z"));
+
+        assertThat(index.isRevoked(before, "kasa@akcadag.com", TokenIds.issuedAt(before, iat))).isTrue();
+        assertThat(index.isRevoked(after, "kasa@akcadag.com", TokenIds.issuedAt(after, iat))).isFalse();
+    }
+}
@@ -0,0 +1,119 @@
+package com.akcadag.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * İki ayrı bellek içi H2 veritabanı primary ve replika gibi kullanılır; hangisinden okunduğu
+ * her veritabanına yazılan farklı "node" değerinden anlaşılır.
+ */
+class ReplicaRoutingTest {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private ReplicaRoutingConfig.RoutingDataSource routing;
+    private ReplicaSet replicaSet;
+    private ReadYourWrites readYourWrites;
+
+    @AfterEach
+    void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        setUp("jdbc:h2:mem:replica_ok;DB_CLOSE_DELAY=-1");
+
+        assertThat(readNode(true)).isEqualTo("replica");
+        assertThat(readNode(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void userReadsPrimaryAfterOwnWriteOthersStayOnReplica() {
+        setUp("jdbc:h2:mem:replica_sticky;DB_CLOSE_DELAY=-1");
+
+        try (ReadYourWrites.Scope ignored = readYourWrites.subject("kasa@akcadag.com")) {
+            write();
+            assertThat(readNode(true)).isEqualTo("primary");
+        }
+        try (ReadYourWrites.Scope ignored = readYourWrites.subject("diger@akcadag.com")) {
+            assertThat(readNode(true)).isEqualTo("replica");
+        }
+        // Kimliksiz okumalar da replikadan yapılır
+        assertThat(readNode(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void unavailableReplicaIsSkippedAndLastResortIsPrimary() {
+        // IFEXISTS=TRUE: veritabanı olmadığı için bağlantı alınamaz (kapalı replika)
+        setUp("jdbc:h2:mem:replica_down;IFEXISTS=TRUE", "jdbc:h2:mem:replica_up;DB_CLOSE_DELAY=-1");
+        for (int i = 0; i < 4; i++) {
+            assertThat(readNode(true)).isEqualTo("replica");
+        }
+        assertThat(replicaSet.healthyCount()).isEqualTo(1);
+
+        closePools();
+        pools.clear();
+        setUp("jdbc:h2:mem:replica_gone;IFEXISTS=TRUE");
+        assertThat(readNode(true)).isEqualTo("primary");
+        assertThat(replicaSet.healthyCount()).isZero();
+    }
+
+    private void setUp(String... replicaUrls) {
+        HikariDataSource primary = pool("primary", "jdbc:h2:mem:primary_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            replicas.add(pool("replica-" + (replicas.size() + 1), url));
+        }
+        initNode(primary, "primary");
+        for (HikariDataSource replica : replicas) {
+            if (!replica.getJdbcUrl().contains("IFEXISTS")) {
+                initNode(replica, "replica");
+            }
+        }
+        replicaSet = new ReplicaSet(replicas, 1);
+        readYourWrites = new ReadYourWrites(Duration.ofMinutes(1), 1000);
+        routing = ReplicaRoutingConfig.routingDataSource(primary, replicaSet, readYourWrites, new SimpleMeterRegistry());
+    }
+
+    private String readNode(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(routing).queryForObject("select name from node", String.class));
+    }
+
+    private void write() {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        template.executeWithoutResult(status -> new JdbcTemplate(routing).update("update node set writes = writes + 1"));
+    }
+
+    private HikariDataSource pool(String name, String url) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(2);
+        // Kapalı replika beklenirken testler uzamasın
+        pool.setConnectionTimeout(url.contains("IFEXISTS") ? 250 : 5000);
+        pool.setInitializationFailTimeout(-1);
+        pools.add(pool);
+        return pool;
+    }
+
+    private static void initNode(HikariDataSource pool, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(pool);
+        jdbc.execute("create table if not exists node (name varchar(20), writes int)");
+        jdbc.update("delete from node");
+        jdbc.update("insert into node values (?, 0)", name);
+    }
+}
@@ -0,0 +1,88 @@
+package com.akcadag.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ *  Yük testleri için /auth/signup, /auth/login ve JWT korumalı /api/users/profile istemcisi.
+ */
+public final class AuthClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    public AuthClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Kullanıcı kaydı yapar, başarılıysa JWT döner, değilse null.
+     */
+    public String signUp(String email, String password, String role) throws IOException, InterruptedException {
+        return postForJwt("/auth/signup", Map.of(
+                "email", email,
+                "password", password,
+                "fullName", "Load " + email,
+                "role", role));
+    }
+
+    /**
+     * Giriş yapar, başarılıysa JWT döner, değilse null.
+     */
+    public String logIn(String email, String password) throws IOException, InterruptedException {
+        return postForJwt("/auth/login", Map.of("email", email, "password", password));
+    }
+
+    /**
+     * JWT ile korunan profil endpoint'ini çağırır, HTTP durum kodunu döner.
+     */
+    public int profile(String jwt) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/profile"))
+                .header("Authorization", "Bearer " + jwt)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        honorRetryAfter(response);
+        return response.statusCode();
+    }
+
+    private String postForJwt(String path, Map<String, String> body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            honorRetryAfter(response);
+            return null;
+        }
+        JsonNode jwt = MAPPER.readTree(response.body()).get("jwt");
+        return jwt == null ? null : jwt.asText();
+    }
+
+    /**
+     * 503 + Retry-After reddedilen istek olarak sayılır; gerçek istemciler gibi Retry-After kadar beklenir.
+     */
+    private static void honorRetryAfter(HttpResponse<?> response) {
+        if (response.statusCode() == 503) {
+            response.headers().firstValueAsLong("Retry-After")
+                    .ifPresent(seconds -> LoadDriver.rejected(Duration.ofSeconds(seconds)));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.akcadag.load;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *  AuthLoadTest
+ * Uygulamayı aynı JVM içinde başlatıp /auth/signup, /auth/login ve JWT korumalı /api/users/profile
+ * isteklerini karışık olarak çok sayıda eşzamanlı istemciyle çalıştırır. Throughput, p50/p99/p999 gecikme,
+ * hata oranı, heap ve GC duraklamaları raporlanır; load-thresholds.properties sınırları aşılırsa test başarısız olur.
+ *
+ * mvn -Pload test
+ * Ayarlar: -Dload.clients=16 -Dload.duration=30s -Dload.users=100 -Dload.mix=signup:2,login:8,profile:90
+ *          -Dload.virtual=true  -Dload.soak.duration=30m (soak testini açar)
+ * Rapor: target/load/*.txt
+ */
+@Tag("load")
+class AuthLoadTest {
+
+    private static final AtomicInteger SIGNUPS = new AtomicInteger();
+
+    private static ConfigurableApplicationContext context;
+    private static AuthClient client;
+    private static List<String> tokens;
+    private static int users;
+    private static LoadThresholds thresholds;
+
+    @BeforeAll
+    static void startApplication() throws Exception {
+        users = Integer.getInteger("load.users", 100);
+        thresholds = LoadThresholds.load();
+        context = LoadHarness.start("load", Boolean.getBoolean("load.virtual"));
+        client = new AuthClient("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        tokens = LoadHarness.seedUsers(client, "load", users);
+
+        // JIT ısınması için kısa bir ön çalıştırma
+        LoadDriver.runMix("warmup", clients(), Duration.ofSeconds(5), operations());
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void authMixStaysWithinThresholds() throws Exception {
+        Duration duration = duration("load.duration", "30s");
+
+        List<LoadDriver.Result> results;
+        JvmStats.Snapshot jvm;
+        try (JvmStats stats = JvmStats.start()) {
+            results = LoadDriver.runMix("load", clients(), duration, operations());
+            jvm = stats.snapshot();
+        }
+
+        List<String> violations = check(results, jvm);
+        report("load", results, jvm, violations);
+        assertThat(violations).as("load thresholds").isEmpty();
+    }
+
+    /**
+     * Aynı karışımı uzun süre çalıştırır; her pencere sınırlarla karşılaştırılır ve
+     * tam GC sonrası canlı heap'in süre boyunca büyümediği kontrol edilir.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "load.soak.duration", matches = ".+")
+    void soakKeepsLatencyAndHeapStable() throws Exception {
+        Duration total = duration("load.soak.duration", "30m");
+        Duration window = duration("load.soak.window", "1m");
+
+        long liveHeapStart = JvmStats.liveHeapMb();
+        List<String> violations = new ArrayList<>();
+        StringBuilder windows = new StringBuilder();
+        long windowCount = Math.max(1, (total.toMillis() + window.toMillis() - 1) / window.toMillis());
+        for (long i = 1; i <= windowCount; i++) {
+            String prefix = "window " + i + ": ";
+            try (JvmStats stats = JvmStats.start()) {
+                List<LoadDriver.Result> results = LoadDriver.runMix("soak#" + i, clients(), window, operations());
+                JvmStats.Snapshot jvm = stats.snapshot();
+                check(results, jvm).forEach(violation -> violations.add(prefix + violation));
+                results.forEach(result -> windows.append(result).append('\n'));
+                windows.append(jvm).append('\n');
+            }
+        }
+        long growth = JvmStats.liveHeapMb() - liveHeapStart;
+        violations.addAll(thresholds.checkHeapGrowth(growth));
+
+        windows.append("live heap growth=").append(growth).append(" MB\n");
+        write("soak", windows.toString(), violations);
+        assertThat(violations).as("soak thresholds").isEmpty();
+    }
+
+    private static List<LoadDriver.Operation> operations() {
+        List<LoadDriver.Operation> operations = new ArrayList<>();
+        for (String entry : System.getProperty("load.mix", "signup:2,login:8,profile:90").split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = Integer.parseInt(parts[1]);
+            if (weight <= 0) {
+                continue;
+            }
+            operations.add(new LoadDriver.Operation(parts[0], weight, switch (parts[0]) {
+                case "signup" -> () -> client.signUp(
+                        LoadHarness.email("load-new", SIGNUPS.incrementAndGet()), LoadHarness.PASSWORD,
+                        "ROLE_CASHIER") != null;
+                case "login" -> () -> client.logIn(
+                        LoadHarness.email("load", ThreadLocalRandom.current().nextInt(users)),
+                        LoadHarness.PASSWORD) != null;
+                case "profile" -> () -> LoadHarness.profile(client, tokens);
+                default -> throw new IllegalArgumentException("Unknown load operation: " + parts[0]);
+            }));
+        }
+        return operations;
+    }
+
+    private static List<String> check(List<LoadDriver.Result> results, JvmStats.Snapshot jvm) {
+        List<String> violations = new ArrayList<>();
+        List<LoadDriver.Operation> operations = operations();
+        for (int i = 0; i < results.size(); i++) {
+            violations.addAll(thresholds.check(operations.get(i).name(), results.get(i)));
+        }
+        violations.addAll(thresholds.check(jvm));
+        return violations;
+    }
+
+    private static void report(String name, List<LoadDriver.Result> results, JvmStats.Snapshot jvm,
+                               List<String> violations) throws IOException {
+        StringBuilder text = new StringBuilder();
+        results.forEach(result -> text.append(result).append('\n'));
+        text.append(jvm).append('\n');
+        write(name, text.toString(), violations);
+    }
+
+    private static void write(String name, String text, List<String> violations) throws IOException {
+        String report = text + (violations.isEmpty() ? "OK\n" : "FAILED\n" + String.join("\n", violations) + '\n');
+        System.out.println();
+        System.out.println("=== " + name + " ===");
+        System.out.print(report);
+
+        Path file = Path.of("target", "load", name + ".txt");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, report);
+    }
+
+    private static int clients() {
+        return Integer.getInteger("load.clients", 16);
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return Duration.parse("PT" + System.getProperty(property, defaultValue).toUpperCase());
+    }
+}
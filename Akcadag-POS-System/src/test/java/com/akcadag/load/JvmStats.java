@@ -0,0 +1,118 @@
+package com.akcadag.load;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  JvmStats
+ * Yük testi sırasında heap kullanımını ve GC duraklamalarını ölçer.
+ * Duraklamalar GC bildirimlerinden okunur; eşzamanlı (concurrent) GC döngüleri uygulamayı durdurmadığı için sayılmaz.
+ * Heap kullanımı 100 ms'de bir örneklenir.
+ */
+public final class JvmStats implements AutoCloseable {
+
+    /**
+     * Ölçüm penceresinin özeti. Heap değerleri MB, duraklamalar ms cinsindendir.
+     */
+    public record Snapshot(long heapStartMb, long heapPeakMb, long heapEndMb,
+                           long gcPauses, long gcPauseTotalMs, long gcPauseMaxMs) {
+
+        @Override
+        public String toString() {
+            return String.format("heap start=%d MB peak=%d MB end=%d MB  gc pauses=%d total=%d ms max=%d ms",
+                    heapStartMb, heapPeakMb, heapEndMb, gcPauses, gcPauseTotalMs, gcPauseMaxMs);
+        }
+    }
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jvm-stats-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final NotificationListener listener = (notification, handback) -> onGc(notification.getUserData());
+
+    private final long heapStart;
+    private final AtomicLong heapPeak = new AtomicLong();
+    private final LongAdder pauses = new LongAdder();
+    private final LongAdder pauseTotalMs = new LongAdder();
+    private final AtomicLong pauseMaxMs = new AtomicLong();
+
+    private JvmStats() {
+        this.heapStart = heapUsed();
+        this.heapPeak.set(heapStart);
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(listener, notification -> GarbageCollectionNotificationInfo
+                        .GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType()), null);
+                emitters.add(emitter);
+            }
+        }
+        sampler.scheduleAtFixedRate(() -> heapPeak.accumulateAndGet(heapUsed(), Math::max),
+                100, 100, TimeUnit.MILLISECONDS);
+    }
+
+    public static JvmStats start() {
+        return new JvmStats();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(toMb(heapStart), toMb(heapPeak.get()), toMb(heapUsed()),
+                pauses.sum(), pauseTotalMs.sum(), pauseMaxMs.get());
+    }
+
+    /**
+     * Tam GC sonrası kalan (canlı) heap; soak testinde bellek sızıntısı kontrolü için.
+     */
+    public static long liveHeapMb() {
+        System.gc();
+        return toMb(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(listener);
+            } catch (ListenerNotFoundException ignored) {
+                // zaten kaldırılmış
+            }
+        }
+    }
+
+    private void onGc(Object userData) {
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) userData);
+        // G1/ZGC/Shenandoah'ın eşzamanlı döngüleri duraklama değildir
+        if (info.getGcName().contains("Concurrent") || info.getGcName().endsWith("Cycles")) {
+            return;
+        }
+        long duration = info.getGcInfo().getDuration();
+        pauses.increment();
+        pauseTotalMs.add(duration);
+        pauseMaxMs.accumulateAndGet(duration, Math::max);
+    }
+
+    private long heapUsed() {
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static long toMb(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+}
@@ -0,0 +1,220 @@
+package com.akcadag.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *  LoadDriver
+ * Verilen isteği belirli sayıda eşzamanlı istemci ile belirli süre boyunca tekrar tekrar çalıştırır,
+ * throughput, gecikme yüzdelikleri ve hata sayısını ölçer.
+ * İstemciler virtual thread üzerinde çalışır; böylece istemci tarafı ölçümü sınırlamaz.
+ */
+public final class LoadDriver {
+
+    // Sunucu isteği işlemeden reddetti (503 + Retry-After): istemcinin bekleyeceği süre
+    private static final ThreadLocal<Duration> REJECTED = new ThreadLocal<>();
+
+    private LoadDriver() {
+    }
+
+    /**
+     * İstek içinden çağrılır: istek işlenmeden reddedildi (503 + Retry-After).
+     * Reddedilen istek hata sayılır ve ayrıca "rejected" olarak raporlanır; gecikmesi yüzdeliklere
+     * katılmaz (hızlı 503'ler gecikmeyi iyi göstermesin). İstemci bir sonraki isteğinden önce
+     * retryAfter kadar bekler.
+     */
+    public static void rejected(Duration retryAfter) {
+        REJECTED.set(retryAfter);
+    }
+
+    /**
+     * Tek bir yük senaryosunun sonucu. Gecikmeler mikrosaniye cinsindendir.
+     * errors reddedilen istekleri de içerir; throughput ve yüzdelikler sadece işlenen isteklerdendir.
+     * failureRate reddedilenler dışındaki hataları (5xx, beklenmeyen durum kodu, bağlantı hatası) ölçer.
+     */
+    public record Result(String name,
+                         int clients,
+                         long requests,
+                         long errors,
+                         long rejected,
+                         double throughput,
+                         long p50Micros,
+                         long p99Micros,
+                         long p999Micros,
+                         long maxMicros) {
+
+        public double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        public double failureRate() {
+            return requests == 0 ? 0 : (double) (errors - rejected) / requests;
+        }
+
+        public double rejectedRate() {
+            return requests == 0 ? 0 : (double) rejected / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s clients=%-5d requests=%-8d errors=%-6d rejected=%-6d throughput=%10.1f req/s "
+                            + "p50=%8.2f ms p99=%8.2f ms p999=%8.2f ms max=%8.2f ms",
+                    name, clients, requests, errors, rejected, throughput,
+                    p50Micros / 1000.0, p99Micros / 1000.0, p999Micros / 1000.0, maxMicros / 1000.0);
+        }
+    }
+
+    /**
+     * Karışık yük senaryosunda bir istek türü: her istemci sıradaki isteği ağırlığa göre rastgele seçer.
+     */
+    public record Operation(String name, int weight, Callable<Boolean> request) {
+    }
+
+    public static Result run(String name, int clients, Duration duration, Callable<Boolean> request)
+            throws InterruptedException {
+        return runMix(name, clients, duration, List.of(new Operation(name, 1, request))).get(0);
+    }
+
+    /**
+     * İstek türlerini ağırlıklarına göre karıştırarak çalıştırır ve her tür için ayrı sonuç döner.
+     * Sonuç listesi işlemlerle aynı sıradadır.
+     */
+    public static List<Result> runMix(String name, int clients, Duration duration, List<Operation> operations)
+            throws InterruptedException {
+        int[] cumulative = new int[operations.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            totalWeight += operations.get(i).weight();
+            cumulative[i] = totalWeight;
+        }
+        int weights = totalWeight;
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<LongList[]>> futures = new ArrayList<>(clients);
+        long[][] errors = new long[clients][operations.size()];
+        long[][] rejected = new long[clients][operations.size()];
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                int client = i;
+                futures.add(executor.submit(() -> {
+                    LongList[] latencies = new LongList[operations.size()];
+                    Arrays.setAll(latencies, op -> new LongList());
+                    start.await();
+                    long deadline = System.nanoTime() + duration.toNanos();
+                    while (System.nanoTime() < deadline) {
+                        int op = pick(cumulative, weights);
+                        long begin = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = operations.get(op).request().call();
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long elapsed = (System.nanoTime() - begin) / 1_000;
+                        if (!ok) {
+                            errors[client][op]++;
+                        }
+                        Duration retryAfter = REJECTED.get();
+                        if (retryAfter != null) {
+                            REJECTED.remove();
+                            rejected[client][op]++;
+                            Thread.sleep(retryAfter);
+                        } else {
+                            latencies[op].add(elapsed);
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+
+            LongList[] all = new LongList[operations.size()];
+            Arrays.setAll(all, op -> new LongList());
+            for (Future<LongList[]> future : futures) {
+                try {
+                    LongList[] latencies = future.get();
+                    for (int op = 0; op < all.length; op++) {
+                        all[op].addAll(latencies[op].toArray());
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException("Load client failed", e);
+                }
+            }
+            double seconds = (System.nanoTime() - begin) / 1e9;
+
+            List<Result> results = new ArrayList<>(operations.size());
+            for (int op = 0; op < all.length; op++) {
+                int index = op;
+                long[] sorted = all[op].toArray();
+                Arrays.sort(sorted);
+                String resultName = operations.size() == 1 ? name : name + " " + operations.get(op).name();
+                long rejectedCount = Arrays.stream(rejected).mapToLong(clientRejected -> clientRejected[index]).sum();
+                results.add(new Result(resultName, clients, sorted.length + rejectedCount,
+                        Arrays.stream(errors).mapToLong(clientErrors -> clientErrors[index]).sum(),
+                        rejectedCount,
+                        sorted.length / seconds,
+                        percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                        sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+            }
+            return results;
+        }
+    }
+
+    private static int pick(int[] cumulative, int totalWeight) {
+        if (cumulative.length == 1) {
+            return 0;
+        }
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        int op = 0;
+        while (value >= cumulative[op]) {
+            op++;
+        }
+        return op;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Kutulanmadan (boxing) long biriktiren basit liste.
+     */
+    private static final class LongList {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(long[] other) {
+            if (size + other.length > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.length));
+            }
+            System.arraycopy(other, 0, values, size, other.length);
+            size += other.length;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
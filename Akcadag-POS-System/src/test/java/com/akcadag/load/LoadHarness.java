@@ -0,0 +1,111 @@
+package com.akcadag.load;
+
+import com.akcadag.POS_Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *  LoadHarness
+ * Uygulamayı aynı JVM içinde önce platform thread'lerle, sonra virtual thread'lerle başlatır ve
+ * login ile JWT doğrulama (/api/users/profile) endpoint'lerinde throughput ve p99 gecikmeyi karşılaştırır.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.akcadag.load.LoadHarness
+ * Ayarlar: -Dload.clients=400 -Dload.duration=20s -Dload.users=200
+ */
+public class LoadHarness {
+
+    static final String PASSWORD = "kasiyer-1234";
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("load.clients", 400);
+        int users = Integer.getInteger("load.users", 200);
+        Duration duration = Duration.parse("PT" + System.getProperty("load.duration", "20s").toUpperCase());
+
+        List<LoadDriver.Result> results = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            try (ConfigurableApplicationContext context = start(mode, virtual)) {
+                String port = context.getEnvironment().getProperty("local.server.port");
+                AuthClient client = new AuthClient("http://localhost:" + port);
+
+                List<String> tokens = seedUsers(client, mode, users);
+
+                // JIT ısınması için kısa bir ön çalıştırma
+                LoadDriver.run(mode + " warmup", clients, Duration.ofSeconds(5), () -> profile(client, tokens));
+
+                results.add(LoadDriver.run(mode + " /auth/login", clients, duration, () -> {
+                    int i = ThreadLocalRandom.current().nextInt(users);
+                    return client.logIn(email(mode, i), PASSWORD) != null;
+                }));
+                results.add(LoadDriver.run(mode + " /api/users/profile", clients, duration,
+                        () -> profile(client, tokens)));
+            }
+        }
+
+        System.out.println();
+        System.out.println("=== Platform vs virtual threads ===");
+        results.forEach(System.out::println);
+    }
+
+    /**
+     * Uygulamayı bellek içi H2 ile (PostgreSQL uyumluluk modunda) başlatır. -Dload.datasource.url=jdbc:postgresql://... verilirse
+     * (load.datasource.username / load.datasource.password ile) o veritabanı kullanılır; tablolar
+     * create-drop ile oluşturulduğu için sadece test veritabanı verilmelidir.
+     */
+    static ConfigurableApplicationContext start(String databaseName, boolean virtualThreads) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.datasource.hikari.maximum-pool-size=20",
+                // Tüm istemciler aynı IP'den gelir; login throttle ölçümü bozmasın
+                "auth.login-throttle.enabled=false",
+                "logging.level.root=WARN"));
+
+        String url = System.getProperty("load.datasource.url");
+        if (url == null) {
+            properties.add("spring.datasource.url=jdbc:h2:mem:" + databaseName + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH"
+                    + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        } else {
+            properties.add("spring.datasource.url=" + url);
+            properties.add("spring.datasource.driver-class-name=org.postgresql.Driver");
+            properties.add("spring.datasource.username=" + System.getProperty("load.datasource.username", "postgres"));
+            properties.add("spring.datasource.password=" + System.getProperty("load.datasource.password", ""));
+            properties.add("spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect");
+        }
+
+        // Komut satırı argümanı olarak verilir; application.properties'teki değerleri ezer
+        return new SpringApplicationBuilder(POS_Application.class)
+                .profiles("embedded")
+                .logStartupInfo(false)
+                .run(properties.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    static List<String> seedUsers(AuthClient client, String prefix, int users) throws Exception {
+        List<String> tokens = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String jwt = client.signUp(email(prefix, i), PASSWORD, "ROLE_CASHIER");
+            if (jwt == null) {
+                throw new IllegalStateException("Could not sign up " + email(prefix, i));
+            }
+            String token = client.logIn(email(prefix, i), PASSWORD);
+            if (token == null) {
+                throw new IllegalStateException("Could not log in " + email(prefix, i));
+            }
+            tokens.add(token);
+        }
+        return tokens;
+    }
+
+    static String email(String prefix, int i) {
+        return prefix + "-cashier" + i + "@akcadag.com";
+    }
+
+    static boolean profile(AuthClient client, List<String> tokens) throws Exception {
+        String jwt = tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+        return client.profile(jwt) == 200;
+    }
+}
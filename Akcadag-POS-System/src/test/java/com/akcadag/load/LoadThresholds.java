@@ -0,0 +1,95 @@
+package com.akcadag.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ *  LoadThresholds
+ * Yük testi sonuçlarının karşılaştırıldığı sınırlar (src/test/resources/load-thresholds.properties).
+ * Farklı bir makine için -Dload.thresholds=/yol/dosya.properties ile başka bir dosya verilebilir.
+ * Dosyada olmayan sınırlar kontrol edilmez.
+ */
+public final class LoadThresholds {
+
+    private static final String DEFAULT_RESOURCE = "/load-thresholds.properties";
+
+    private final Properties properties;
+
+    private LoadThresholds(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static LoadThresholds load() throws IOException {
+        Properties properties = new Properties();
+        String file = System.getProperty("load.thresholds");
+        if (file != null) {
+            try (Reader reader = Files.newBufferedReader(Path.of(file))) {
+                properties.load(reader);
+            }
+        } else {
+            try (InputStream in = LoadThresholds.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (in == null) {
+                    throw new IOException(DEFAULT_RESOURCE + " not found");
+                }
+                properties.load(in);
+            }
+        }
+        return new LoadThresholds(properties);
+    }
+
+    /**
+     * Bir istek türünün sonucunu "&lt;işlem&gt;.*" sınırlarıyla karşılaştırır.
+     * @return aşılan sınırların açıklaması, hepsi tutuyorsa boş liste
+     */
+    public List<String> check(String operation, LoadDriver.Result result) {
+        List<String> violations = new ArrayList<>();
+        atLeast(violations, operation + ".min-throughput", result.throughput());
+        atMost(violations, operation + ".max-p50-ms", result.p50Micros() / 1000.0);
+        atMost(violations, operation + ".max-p99-ms", result.p99Micros() / 1000.0);
+        atMost(violations, operation + ".max-p999-ms", result.p999Micros() / 1000.0);
+        // Hata oranı reddedilmeyen trafik içindir; 503 + Retry-After ile geri çevrilenler ayrı sınırlanır
+        atMost(violations, operation + ".max-error-rate", result.failureRate());
+        atMost(violations, operation + ".max-rejected-rate", result.rejectedRate());
+        return violations;
+    }
+
+    /**
+     * Heap ve GC sonuçlarını "jvm.*" sınırlarıyla karşılaştırır.
+     */
+    public List<String> check(JvmStats.Snapshot jvm) {
+        List<String> violations = new ArrayList<>();
+        atMost(violations, "jvm.max-heap-peak-mb", jvm.heapPeakMb());
+        atMost(violations, "jvm.max-gc-pause-ms", jvm.gcPauseMaxMs());
+        atMost(violations, "jvm.max-gc-pause-total-ms", jvm.gcPauseTotalMs());
+        return violations;
+    }
+
+    /**
+     * Soak testinde tam GC sonrası canlı heap artışını "soak.max-live-heap-growth-mb" ile karşılaştırır.
+     */
+    public List<String> checkHeapGrowth(long growthMb) {
+        List<String> violations = new ArrayList<>();
+        atMost(violations, "soak.max-live-heap-growth-mb", growthMb);
+        return violations;
+    }
+
+    private void atLeast(List<String> violations, String key, double actual) {
+        String limit = properties.getProperty(key);
+        if (limit != null && actual < Double.parseDouble(limit)) {
+            violations.add(String.format("%s: %.2f < %s", key, actual, limit));
+        }
+    }
+
+    private void atMost(List<String> violations, String key, double actual) {
+        String limit = properties.getProperty(key);
+        if (limit != null && actual > Double.parseDouble(limit)) {
+            violations.add(String.format("%s: %.2f > %s", key, actual, limit));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.akcadag.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LastLoginBufferTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+    @Test
+    void failedFlushKeepsEntriesAndBacksOff() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+        LastLoginBuffer buffer = new LastLoginBuffer(jdbcTemplate, taskScheduler,
+                new UserCache(Duration.ofMinutes(5), 100), 2, Duration.ofMinutes(1), Duration.ofMinutes(5));
+        LocalDateTime first = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+        buffer.record(1L, first);
+        buffer.record(2L, first);
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+
+        buffer.flush();
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+
+        // Backoff süresince ne yeni kayıt ne de zamanlanmış flush veritabanına gider
+        buffer.record(1L, first.plusMinutes(1));
+        buffer.flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void drainWritesEvenWhileBackingOff() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(new int[]{1});
+        LastLoginBuffer buffer = new LastLoginBuffer(jdbcTemplate, taskScheduler,
+                new UserCache(Duration.ofMinutes(5), 100), 10, Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+        buffer.record(1L, LocalDateTime.of(2026, 1, 1, 9, 0));
+        buffer.flush();
+        buffer.drain();
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+        assertThat(buffer.pendingCount()).isZero();
+    }
+}
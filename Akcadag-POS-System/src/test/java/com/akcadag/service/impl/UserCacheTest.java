@@ -0,0 +1,73 @@
+package com.akcadag.service.impl;
+
+import com.akcadag.domain.UserRole;
+import com.akcadag.repository.projection.UserCredentials;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCacheTest {
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        UserCache cache = new UserCache(Duration.ofMinutes(5), 100);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            Future<?>[] results = new Future<?>[4];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = executor.submit(() -> cache.getCredentials("kasa@akcadag.com", email -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return Optional.of(credentials("hash-1"));
+                }));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<?> result : results) {
+                assertThat(((UserCredentials) result.get(5, TimeUnit.SECONDS)).password()).isEqualTo("hash-1");
+            }
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictDuringLoadKeepsTheStaleValueOutOfTheCache() {
+        UserCache cache = new UserCache(Duration.ofMinutes(5), 100);
+
+        // Şifre değişikliği (evict) eski hash veritabanından okunurken gelir
+        UserCredentials stale = cache.getCredentials("kasa@akcadag.com", email -> {
+            cache.evict(1L, email);
+            return Optional.of(credentials("old-hash"));
+        });
+        assertThat(stale.password()).isEqualTo("old-hash");
+
+        UserCredentials fresh = cache.getCredentials("kasa@akcadag.com", email -> Optional.of(credentials("new-hash")));
+        assertThat(fresh.password()).isEqualTo("new-hash");
+        assertThat(cache.getCredentials("kasa@akcadag.com", email -> Optional.empty()).password()).isEqualTo("new-hash");
+    }
+
+    private static UserCredentials credentials(String hash) {
+        return new UserCredentials(1L, "kasa@akcadag.com", hash, UserRole.ROLE_CASHIER, null, "Kasa", null,
+                LocalDateTime.of(2026, 1, 1, 9, 0), LocalDateTime.of(2026, 1, 1, 9, 0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.akcadag.service.impl;
+
+import com.akcadag.configuration.PasswordHashingBulkhead;
+import com.akcadag.domain.UserRole;
+import com.akcadag.models.User;
+import com.akcadag.payload.dto.UserDto;
+import com.akcadag.payload.response.UserImportResponse;
+import com.akcadag.payload.response.UserImportResult;
+import com.akcadag.payload.response.UserImportResult.Status;
+import com.akcadag.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserImportServiceImplTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final PasswordHashingBulkhead hashingBulkhead = mock(PasswordHashingBulkhead.class);
+    private final UserCache userCache = mock(UserCache.class);
+
+    @Test
+    void concurrentSignupIsReportedAsDuplicateInsteadOfFailingTheImport() throws Throwable {
+        UserImportServiceImpl service = new UserImportServiceImpl(userRepository, passwordEncoder, hashingBulkhead,
+                userCache);
+        ReflectionTestUtils.setField(service, "maxRows", 10);
+        when(passwordEncoder.encode("pw")).thenReturn("hash");
+        when(hashingBulkhead.executeAll(anyList())).thenAnswer(invocation -> {
+            List<Supplier<String>> tasks = invocation.getArgument(0);
+            return tasks.stream().map(Supplier::get).toList();
+        });
+        // Ön kontrolde kayıtlı değil; INSERT sırasında kasa2 başka bir istekle kaydolmuş
+        when(userRepository.findExistingEmails(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of("kasa2@akcadag.com"));
+        when(userRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("users_email_key"))
+                .thenAnswer(invocation -> {
+                    List<User> users = new ArrayList<>(invocation.getArgument(0));
+                    users.forEach(user -> user.setId(100L));
+                    return users;
+                });
+
+        UserImportResponse response = service.importUsers(List.of(
+                user("kasa1@akcadag.com"), user("kasa2@akcadag.com"), user("kasa3@akcadag.com")));
+
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getRows()).extracting(UserImportResult::getStatus)
+                .containsExactly(Status.CREATED, Status.DUPLICATE, Status.CREATED);
+        assertThat(response.getRows().get(2).getEmail()).isEqualTo("kasa3@akcadag.com");
+        verify(userCache).evict(100L, "kasa1@akcadag.com");
+        verify(userCache).evict(100L, "kasa3@akcadag.com");
+        verify(userCache, never()).evict(100L, "kasa2@akcadag.com");
+    }
+
+    private static UserDto user(String email) {
+        UserDto user = new UserDto();
+        user.setEmail(email);
+        user.setPassword("pw");
+        user.setFullName("Kasa");
+        user.setRole(UserRole.ROLE_CASHIER);
+        return user;
+    }
+}
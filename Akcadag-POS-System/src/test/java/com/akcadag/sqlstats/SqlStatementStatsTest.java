@@ -0,0 +1,54 @@
+package com.akcadag.sqlstats;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlStatementStatsTest {
+
+    @Test
+    void normalizesLiteralsWhitespaceAndInLists() {
+        assertThat(SqlShapes.normalize("select u1_0.id from users u1_0\n  where u1_0.email = 'a@x.com' and u1_0.role in (?, ?, ?)"))
+                .isEqualTo("select u1_0.id from users u1_0 where u1_0.email = ? and u1_0.role in (?...)");
+        assertThat(SqlShapes.normalize("update users set role = 3 where id = 42 /* comment */"))
+                .isEqualTo("update users set role = ? where id = ?");
+        assertThat(SqlShapes.normalize("select 'it''s' from t2"))
+                .isEqualTo("select ? from t2");
+    }
+
+    @Test
+    void recordsStatementsRunThroughTheWrappedDataSource() {
+        SqlStatementStats stats = new SqlStatementStats(Duration.ofSeconds(10), 0, 500, new SimpleMeterRegistry());
+        DriverManagerDataSource target = new DriverManagerDataSource("jdbc:h2:mem:sqlstats;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(new StatementStatsDataSource(target, stats));
+
+        jdbc.execute("create table users (id bigint primary key, email varchar(100))");
+        jdbc.batchUpdate("insert into users (id, email) values (?, ?)",
+                List.of(new Object[]{1, "a@x.com"}, new Object[]{2, "b@x.com"}));
+        for (int i = 0; i < 5; i++) {
+            jdbc.queryForObject("select email from users where id = " + (i % 2 + 1), String.class);
+        }
+        assertThatThrownBy(() -> jdbc.queryForList("select * from missing"))
+                .isInstanceOf(RuntimeException.class);
+
+        List<SqlStatementStats.Summary> frequent = stats.mostFrequent(10);
+        assertThat(frequent.get(0).sql()).isEqualTo("select email from users where id = ?");
+        assertThat(frequent.get(0).count()).isEqualTo(5);
+        assertThat(frequent).anySatisfy(summary -> {
+            assertThat(summary.sql()).isEqualTo("insert into users (id, email) values (?, ?)");
+            assertThat(summary.count()).isEqualTo(1);
+        });
+        assertThat(frequent).anySatisfy(summary -> {
+            assertThat(summary.sql()).isEqualTo("select * from missing");
+            assertThat(summary.errors()).isEqualTo(1);
+        });
+        assertThat(stats.slowest(1)).hasSize(1);
+    }
+}